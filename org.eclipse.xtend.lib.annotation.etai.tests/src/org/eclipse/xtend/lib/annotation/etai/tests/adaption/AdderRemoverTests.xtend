@@ -5,6 +5,7 @@ import java.util.ArrayList
 import java.util.Collection
 import java.util.HashMap
 import java.util.HashSet
+import java.util.LinkedList
 import java.util.List
 import java.util.Map
 import java.util.Set
@@ -116,6 +117,26 @@ class ClassWithAdderRemover {
 
 }
 
+@ApplyRules
+class ClassWithAdderRemoverDirectAccess {
+
+	@AdderRule(single=true, multiple=true)
+	@RemoverRule(single=true, multiple=true)
+	@GetterRule
+	List<Integer> dataList = new ArrayList<Integer>
+
+	@AdderRule(single=true, multiple=true)
+	@RemoverRule(single=true, multiple=true)
+	@GetterRule
+	Set<String> dataSet = new HashSet<String>
+
+	@AdderRule(single=true, multiple=true)
+	@RemoverRule(single=true, multiple=true)
+	@GetterRule
+	Map<String, ClassWithSimpleEquals> dataMap = new HashMap<String, ClassWithSimpleEquals>
+
+}
+
 @ApplyRules
 class ClassWithAdderRemoverSingleMultiple {
 
@@ -298,6 +319,64 @@ class ClassWithTypeAdaptionNoTypeParamBase {
 class ClassWithTypeAdaptionNoTypeParamDerived extends ClassWithTypeAdaptionNoTypeParamBase {
 }
 
+@ApplyRules
+class ClassWithAdderRemoverSnapshot {
+
+	@AdderRule(multiple=true)
+	@RemoverRule(multiple=true)
+	@GetterRule(collectionPolicy=SNAPSHOT)
+	@SetterRule
+	List<Integer> dataListSnapshot = new LinkedList<Integer>
+
+	@AdderRule(multiple=true)
+	@RemoverRule(multiple=true)
+	@GetterRule(collectionPolicy=SNAPSHOT)
+	@SynchronizationRule("snapshotLock")
+	Map<Integer, String> dataMapSnapshot = new HashMap<Integer, String>
+
+	@AdderRule
+	@GetterRule(collectionPolicy=SNAPSHOT)
+	static Set<Integer> dataSetSnapshotStatic = new HashSet<Integer>
+
+	def void addToDataListSnapshotDirectly(Integer value) {
+		dataListSnapshot.add(value)
+	}
+
+}
+
+class ArrayListCountingCopies<E> extends ArrayList<E> {
+
+	public int copies = 0
+
+	override Object[] toArray() {
+		copies += 1
+		return super.toArray
+	}
+
+}
+
+@ApplyRules
+class ClassWithAdderRemoverCountingCopies {
+
+	public val listNoChangeMethods = new ArrayListCountingCopies<Integer>
+	public val listWithChangeMethods = new ArrayListCountingCopies<Integer>
+
+	@AdderRule(single=true, multiple=true)
+	@RemoverRule(single=true, multiple=true)
+	List<Integer> dataNoChangeMethods = listNoChangeMethods
+
+	@AdderRule(single=true, multiple=true, afterAdd="%Added")
+	@RemoverRule(single=true, multiple=true, afterRemove="%Removed")
+	List<Integer> dataWithChangeMethods = listWithChangeMethods
+
+	def void dataWithChangeMethodsAdded() {
+	}
+
+	def void dataWithChangeMethodsRemoved() {
+	}
+
+}
+
 class AdderRemoverTests {
 
 	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
@@ -536,6 +615,98 @@ class AdderRemoverTests {
 
 	}
 
+	@Test
+	def void testAdderRemoverBulk() {
+
+		val obj = new ClassWithAdderRemover
+
+		// adding/removing elements one by one must not copy the whole collection each time
+		for (var i = 0; i < 100000; i++)
+			assertTrue(obj.addToDataWithAdderRemoverList(i))
+		assertEquals(100000, obj.dataWithAdderRemoverList.size)
+		assertEquals(99999, obj.dataWithAdderRemoverList.get(99999))
+
+		for (var i = 99999; i >= 50000; i--)
+			obj.removeFromDataWithAdderRemoverList(i)
+		assertEquals(50000, obj.dataWithAdderRemoverList.size)
+		assertEquals(49999, obj.dataWithAdderRemoverList.get(49999))
+
+	}
+
+	@Test
+	def void testAdderRemoverDirectAccess() {
+
+		val obj = new ClassWithAdderRemoverDirectAccess
+
+		// list
+		assertTrue(obj.addToDataList(1))
+		assertTrue(obj.addToDataList(0, 0))
+		assertTrue(obj.addAllToDataList(#[2, 3, 2]))
+		assertFalse(obj.addAllToDataList(#[]))
+		assertTrue(obj.addAllToDataList(1, #[5]))
+		assertEquals(#[0, 5, 1, 2, 3, 2], obj.dataList)
+		assertTrue(obj.removeFromDataList(2 as Integer))
+		assertFalse(obj.removeFromDataList(7 as Integer))
+		assertEquals(#[0, 5, 1, 3, 2], obj.dataList)
+		assertTrue(obj.removeFromDataList(1))
+		assertEquals(#[0, 1, 3, 2], obj.dataList)
+		assertTrue(obj.removeAllFromDataList(#[3, 7]))
+		assertFalse(obj.removeAllFromDataList(#[7]))
+		assertTrue(obj.clearDataList)
+		assertFalse(obj.clearDataList)
+		assertEquals(0, obj.dataList.size)
+
+		// set
+		assertTrue(obj.addToDataSet("A"))
+		assertFalse(obj.addToDataSet("A"))
+		assertTrue(obj.addAllToDataSet(#["A", "B"]))
+		assertFalse(obj.addAllToDataSet(#["A", "B"]))
+		assertEquals(2, obj.dataSet.size)
+		assertTrue(obj.removeFromDataSet("A"))
+		assertFalse(obj.removeFromDataSet("A"))
+		assertTrue(obj.clearDataSet)
+		assertFalse(obj.clearDataSet)
+
+		// map
+		val value1 = new ClassWithSimpleEquals(1)
+		val value2 = new ClassWithSimpleEquals(1)
+		assertNull(obj.putToDataMap("A", value1))
+		assertNull(obj.putToDataMap("A", value1))
+		assertSame(value1, obj.putToDataMap("A", value2))
+		assertFalse(obj.putAllToDataMap(#{"A" -> value2}))
+		assertTrue(obj.putAllToDataMap(#{"A" -> value1, "B" -> value2}))
+		assertEquals(2, obj.dataMap.size)
+		assertSame(value1, obj.removeFromDataMap("A"))
+		assertNull(obj.removeFromDataMap("A"))
+		assertTrue(obj.clearDataMap)
+		assertFalse(obj.clearDataMap)
+
+	}
+
+	@Test
+	def void testAdderRemoverNoSnapshot() {
+
+		val obj = new ClassWithAdderRemoverCountingCopies
+
+		// without change methods, the collection must never be copied
+		for (var i = 0; i < 10; i++)
+			assertTrue(obj.addToDataNoChangeMethods(i))
+		assertTrue(obj.addAllToDataNoChangeMethods(#[10, 11]))
+		assertTrue(obj.addToDataNoChangeMethods(0, -1))
+		assertTrue(obj.removeFromDataNoChangeMethods(Integer::valueOf(5)))
+		assertTrue(obj.removeAllFromDataNoChangeMethods(#[6, 7]))
+		assertTrue(obj.removeFromDataNoChangeMethods(0))
+		assertEquals(#[0, 1, 2, 3, 4, 8, 9, 10, 11], obj.listNoChangeMethods)
+		assertTrue(obj.clearDataNoChangeMethods)
+		assertEquals(0, obj.listNoChangeMethods.copies)
+
+		// with change methods, old/new elements are provided
+		assertTrue(obj.addToDataWithChangeMethods(1))
+		assertTrue(obj.removeFromDataWithChangeMethods(Integer::valueOf(1)))
+		assertTrue(obj.listWithChangeMethods.copies > 0)
+
+	}
+
 	@Test
 	def void testAdderRemoverStatic() {
 
@@ -618,6 +789,62 @@ class AdderRemoverTests {
 
 	}
 
+	@Test
+	def void testAdderRemoverSnapshot() {
+
+		val obj = new ClassWithAdderRemoverSnapshot
+
+		// same snapshot is returned until collection is changed
+		val snapshotList1 = obj.dataListSnapshot
+		assertEquals(#[], snapshotList1)
+		assertSame(snapshotList1, obj.dataListSnapshot)
+
+		obj.addToDataListSnapshot(1)
+		obj.addAllToDataListSnapshot(#[2, 3])
+		val snapshotList2 = obj.dataListSnapshot
+		assertNotSame(snapshotList1, snapshotList2)
+		assertEquals(#[1, 2, 3], snapshotList2)
+		assertEquals(#[], snapshotList1)
+		assertSame(snapshotList2, obj.dataListSnapshot)
+
+		obj.removeFromDataListSnapshot(Integer::valueOf(2))
+		assertEquals(#[1, 3], obj.dataListSnapshot)
+		obj.clearDataListSnapshot
+		assertEquals(#[], obj.dataListSnapshot)
+
+		// setting another collection invalidates the snapshot
+		obj.dataListSnapshot = new LinkedList<Integer>(#[5])
+		assertEquals(#[5], obj.dataListSnapshot)
+
+		// changes applied directly are not detected
+		val snapshotList3 = obj.dataListSnapshot
+		obj.addToDataListSnapshotDirectly(6)
+		assertSame(snapshotList3, obj.dataListSnapshot)
+
+		// snapshot is read-only
+		try {
+			obj.dataListSnapshot.add(7)
+			fail("UnsupportedOperationException expected")
+		} catch (UnsupportedOperationException unsupportedOperationException) {
+		}
+
+		// map (synchronized)
+		val snapshotMap1 = obj.dataMapSnapshot
+		assertSame(snapshotMap1, obj.dataMapSnapshot)
+		obj.putToDataMapSnapshot(1, "a")
+		assertEquals(#{1 -> "a"}, obj.dataMapSnapshot)
+		assertSame(obj.dataMapSnapshot, obj.dataMapSnapshot)
+		obj.removeFromDataMapSnapshot(1)
+		assertTrue(obj.dataMapSnapshot.empty)
+
+		// static set
+		ClassWithAdderRemoverSnapshot::addToDataSetSnapshotStatic(1)
+		val snapshotSet = ClassWithAdderRemoverSnapshot::dataSetSnapshotStatic
+		assertEquals(#{1}, snapshotSet)
+		assertSame(snapshotSet, ClassWithAdderRemoverSnapshot::dataSetSnapshotStatic)
+
+	}
+
 	@Test
 	def void testFlagMultipleSingle() {
 
@@ -21,6 +21,7 @@ import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.IBidirectionalI
 import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.IBidirectionalOnlyInterfaceA
 import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.IBidirectionalOnlyInterfaceB
 import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.IBidirectionalWithoutGenerationBBaseTrait
+import org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils
 import org.eclipse.xtend.lib.macro.declaration.FieldDeclaration
 import org.eclipse.xtend.lib.macro.services.Problem.Severity
 import org.junit.Test
@@ -381,6 +382,96 @@ class ExtendedByBidirectionalInTraitA implements IBidirectionalInTraitA {
 class ExtendedByBidirectionalInTraitB implements IBidirectionalInTraitB {
 }
 
+@ApplyRules
+class BidirectionalInheritanceA {
+
+	@GetterRule
+	@SetterRule
+	@BidirectionalRule("singleA")
+	BidirectionalInheritanceBBase singleB
+
+	@GetterRule
+	@SetterRule
+	@BidirectionalRule("multiA")
+	BidirectionalInheritanceBBase singleMultiB
+
+}
+
+@ApplyRules
+class BidirectionalInheritanceBBase {
+
+	@GetterRule
+	@SetterRule
+	@BidirectionalRule("singleB")
+	BidirectionalInheritanceA singleA
+
+	@GetterRule
+	@AdderRule(single=true)
+	@RemoverRule(single=true)
+	@BidirectionalRule("singleMultiB")
+	Set<BidirectionalInheritanceA> multiA = new HashSet<BidirectionalInheritanceA>
+
+}
+
+@ApplyRules
+class BidirectionalInheritanceBDerived extends BidirectionalInheritanceBBase {
+}
+
+@ApplyRules
+class BidirectionalInheritanceBOverride extends BidirectionalInheritanceBBase {
+
+	public int calledSetSingleA = 0
+	public int calledAddToMultiA = 0
+	public int calledRemoveFromMultiA = 0
+
+	override boolean setSingleA(BidirectionalInheritanceA singleA) {
+		calledSetSingleA++
+		return super.setSingleA(singleA)
+	}
+
+	override boolean addToMultiA(BidirectionalInheritanceA element) {
+		calledAddToMultiA++
+		return super.addToMultiA(element)
+	}
+
+	override boolean removeFromMultiA(BidirectionalInheritanceA element) {
+		calledRemoveFromMultiA++
+		return super.removeFromMultiA(element)
+	}
+
+}
+
+@ApplyRules
+class BidirectionalVetoA {
+
+	public BidirectionalVetoB vetoed = null
+	public boolean oppositeSetInChangeMethod = false
+
+	@GetterRule
+	@SetterRule(beforeChange="%BeforeChange", afterChange="%Changed")
+	@BidirectionalRule("a")
+	BidirectionalVetoB b
+
+	protected def boolean bBeforeChange(BidirectionalVetoB newValue) {
+		return newValue === null || newValue !== vetoed
+	}
+
+	protected def void bChanged(BidirectionalVetoB newValue) {
+		oppositeSetInChangeMethod = newValue === null || newValue.a === this
+	}
+
+}
+
+@ApplyRules
+class BidirectionalVetoB {
+
+	@GetterRule
+	@SetterRule
+	@BidirectionalRule("b")
+	BidirectionalVetoA a
+
+}
+
 class BidirectionalTests {
 
 	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
@@ -413,6 +504,35 @@ class BidirectionalTests {
 
 	}
 
+	@Test
+	def void testBidirectionalSetterCancelAndOrder() {
+
+		val objA = new BidirectionalVetoA
+		val objB1 = new BidirectionalVetoB
+		val objB2 = new BidirectionalVetoB
+
+		// opposite reference is set before "after change" method is called
+		assertTrue(objA.setB(objB1))
+		assertSame(objB1, objA.b)
+		assertSame(objA, objB1.a)
+		assertTrue(objA.oppositeSetInChangeMethod)
+
+		// cancelled change does not touch any opposite reference
+		objA.oppositeSetInChangeMethod = false
+		objA.vetoed = objB2
+		assertFalse(objA.setB(objB2))
+		assertSame(objB1, objA.b)
+		assertSame(objA, objB1.a)
+		assertNull(objB2.a)
+		assertFalse(objA.oppositeSetInChangeMethod)
+
+		assertTrue(objA.setB(null))
+		assertNull(objA.b)
+		assertNull(objB1.a)
+		assertTrue(objA.oppositeSetInChangeMethod)
+
+	}
+
 	@Test
 	def void testBidirectionalSingleSingle() {
 
@@ -1487,6 +1607,101 @@ class BidirectionalTests {
 
 	}
 
+	@Test
+	def void testBidirectionalInheritedOppositeMethods() {
+
+		val objA = new BidirectionalInheritanceA
+		val objB1 = new BidirectionalInheritanceBDerived
+		val objB2 = new BidirectionalInheritanceBDerived
+
+		// set/unset from side A (opposite methods are inherited)
+		assertTrue(objA.singleB = objB1)
+		assertTrue(objA.singleMultiB = objB1)
+		assertSame(objA, objB1.singleA)
+		assertTrue(objB1.multiA.contains(objA))
+
+		assertTrue(objA.singleB = objB2)
+		assertTrue(objA.singleMultiB = objB2)
+		assertNull(objB1.singleA)
+		assertFalse(objB1.multiA.contains(objA))
+		assertSame(objA, objB2.singleA)
+		assertTrue(objB2.multiA.contains(objA))
+
+		assertTrue(objA.singleB = null)
+		assertTrue(objA.singleMultiB = null)
+		assertNull(objB2.singleA)
+		assertTrue(objB2.multiA.empty)
+
+		// set/unset from side B
+		assertTrue(objB1.singleA = objA)
+		assertTrue(objB1.addToMultiA(objA))
+		assertSame(objB1, objA.singleB)
+		assertSame(objB1, objA.singleMultiB)
+
+		assertTrue(objB1.singleA = null)
+		assertTrue(objB1.removeFromMultiA(objA))
+		assertNull(objA.singleB)
+		assertNull(objA.singleMultiB)
+
+	}
+
+	@Test
+	def void testBidirectionalOverriddenOppositeMethods() {
+
+		val objA = new BidirectionalInheritanceA
+		val objB1 = new BidirectionalInheritanceBOverride
+		val objB2 = new BidirectionalInheritanceBOverride
+		val objBBase = new BidirectionalInheritanceBBase
+
+		// overriding opposite methods must be called
+		assertTrue(objA.singleB = objB1)
+		assertTrue(objA.singleMultiB = objB1)
+		assertEquals(1, objB1.calledSetSingleA)
+		assertEquals(1, objB1.calledAddToMultiA)
+		assertSame(objA, objB1.singleA)
+		assertTrue(objB1.multiA.contains(objA))
+
+		assertTrue(objA.singleB = objB2)
+		assertTrue(objA.singleMultiB = objB2)
+		assertEquals(2, objB1.calledSetSingleA)
+		assertEquals(1, objB1.calledRemoveFromMultiA)
+		assertEquals(1, objB2.calledSetSingleA)
+		assertEquals(1, objB2.calledAddToMultiA)
+		assertNull(objB1.singleA)
+		assertFalse(objB1.multiA.contains(objA))
+
+		// base class (same field name) must not be affected by cached overriding methods
+		assertTrue(objA.singleB = objBBase)
+		assertTrue(objA.singleMultiB = objBBase)
+		assertEquals(2, objB2.calledSetSingleA)
+		assertEquals(1, objB2.calledRemoveFromMultiA)
+		assertSame(objA, objBBase.singleA)
+		assertTrue(objBBase.multiA.contains(objA))
+
+		assertTrue(objA.singleB = null)
+		assertTrue(objA.singleMultiB = null)
+		assertNull(objBBase.singleA)
+		assertTrue(objBBase.multiA.empty)
+
+	}
+
+	@Test
+	def void testBidirectionalOppositeMethodNotFound() {
+
+		val objA = new BidirectionalInheritanceA
+		val objB = new BidirectionalInheritanceBDerived
+
+		// opposite field is usually checked during compilation, but not if called directly
+		try {
+			GetterSetterUtils.addOppositeReference(objB, "notExisting", objA)
+			fail("IllegalStateException expected")
+		} catch (IllegalStateException exception) {
+			assertTrue(exception.message.contains("notExisting"))
+			assertTrue(exception.message.contains(BidirectionalInheritanceBDerived.canonicalName))
+		}
+
+	}
+
 	@Test
 	def void testBidirectionalUsedIncorrectly() {
 
@@ -3,10 +3,12 @@ package org.eclipse.xtend.lib.annotation.etai.tests.adaption
 import java.lang.reflect.Modifier
 import java.util.ArrayList
 import java.util.List
-import java.util.Map
 import org.eclipse.xtend.core.compiler.batch.XtendCompilerTester
 import org.eclipse.xtend.lib.annotation.etai.ApplyRules
+import org.eclipse.xtend.lib.annotation.etai.ConstructRuleAuto
+import org.eclipse.xtend.lib.annotation.etai.ConstructorMethod
 import org.eclipse.xtend.lib.annotation.etai.CopyConstructorRule
+import org.eclipse.xtend.lib.annotation.etai.ExclusiveMethod
 import org.eclipse.xtend.lib.annotation.etai.ExtendedByAuto
 import org.eclipse.xtend.lib.annotation.etai.ExtractInterface
 import org.eclipse.xtend.lib.annotation.etai.FactoryMethodRule
@@ -23,6 +25,8 @@ import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.IClassWithChang
 import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.IClassWithFactoryClassReturnTypeAdaption
 import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.IClassWithFactoryClassReturnTypeAdaptionDerived
 import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.IClassWithFactoryClassTypeArgsAndInterface
+import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.ITraitClassForBulkFactory
+import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.ITraitClassForPooledFactory
 import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.ITraitClassSpecifyingFactoryMethodRule
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.TypeA
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.TypeB
@@ -375,6 +379,108 @@ class ClassWithFactoryClassConstructorCallingConstructor {
 
 }
 
+@ApplyRules
+@FactoryMethodRule(factoryMethod="create", factoryInstance="FACTORY", initMethod="init", poolSize=2, resetMethod="reset")
+class ClassWithFactoryClassPooled {
+
+	public int initCount = 0
+	public int value = 0
+
+	new() {
+		value = 1
+	}
+
+	protected def void init() {
+		initCount += 1
+	}
+
+	protected def void reset() {
+		value = 1
+	}
+
+}
+
+@ApplyRules
+class ClassWithFactoryClassPooledDerived extends ClassWithFactoryClassPooled {
+}
+
+@TraitClassAutoUsing
+abstract class TraitClassForPooledFactory {
+
+	int traitValue
+
+	@ConstructorMethod
+	protected def void construct() {
+		traitValue = 1
+	}
+
+	@ExclusiveMethod
+	override int getTraitValue() {
+		return traitValue
+	}
+
+	@ExclusiveMethod
+	override void setTraitValue(int traitValue) {
+		this.traitValue = traitValue
+	}
+
+}
+
+@ApplyRules
+@ExtendedByAuto
+@FactoryMethodRule(factoryMethod="create", factoryInstance="FACTORY", poolSize=2, resetMethod="reset")
+class ClassWithFactoryClassPooledTrait implements ITraitClassForPooledFactory {
+
+	protected def void reset() {
+	}
+
+}
+
+@TraitClassAutoUsing
+abstract class TraitClassForBulkFactory {
+
+	int id
+
+	@ConstructorMethod
+	protected def void construct(int id) {
+		this.id = id
+	}
+
+	@ExclusiveMethod
+	override int getId() {
+		return id
+	}
+
+}
+
+@ApplyRules
+@ExtendedByAuto
+@ConstructRuleAuto
+@FactoryMethodRule(factoryMethod="create", factoryInstance="FACTORY", initMethod="init", bulkFactoryMethod="createN", factoryClassDerived=true)
+class ClassWithFactoryClassBulk<T> implements ITraitClassForBulkFactory {
+
+	public T value
+	public int initCount = 0
+
+	new(T value) {
+		this.value = value
+	}
+
+	protected def void init() {
+		initCount += 1
+	}
+
+}
+
+@ApplyRules
+class ClassWithFactoryClassBulkDerived extends ClassWithFactoryClassBulk<String> {
+
+	new(String value) {
+		super(value)
+	}
+
+}
+
 class FactoryClassTests {
 
 	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
@@ -561,8 +667,61 @@ class FactoryClassTests {
 		// check internals: no open registration for object creation
 		val obj = ReflectUtils::getPrivateFieldValue(null,
 			ReflectUtils::getPrivateField(FactoryMethodRuleProcessor,
-				"MAP_OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY")) as Map<?, ?>
-		assertEquals(0, obj.size)
+				"OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY")) as ThreadLocal<List<?>>
+		assertEquals(0, obj.get.size)
+
+	}
+
+	@Test
+	def void testFactoryRegistryThreadConfined() {
+
+		val checkObject = new Object
+		val checkResultOtherThread = new ArrayList<Boolean>
+
+		// registration is only visible within the registering thread
+		assertTrue(FactoryMethodRuleProcessor::registerObjectConstructionViaFactory)
+		try {
+
+			val thread = new Thread [
+				checkResultOtherThread.add(FactoryMethodRuleProcessor::checkObjectConstructionViaFactory(checkObject))
+			]
+			thread.start
+			thread.join
+
+			assertTrue(FactoryMethodRuleProcessor::checkObjectConstructionViaFactory(checkObject))
+
+		} finally {
+			assertTrue(FactoryMethodRuleProcessor::unregisterObjectConstructionViaFactory)
+		}
+
+		assertEquals(#[false], checkResultOtherThread)
+		assertFalse(FactoryMethodRuleProcessor::checkObjectConstructionViaFactory(checkObject))
+		assertFalse(FactoryMethodRuleProcessor::unregisterObjectConstructionViaFactory)
+
+	}
+
+	@Test
+	def void testFactoryClassBulk() {
+
+		val ClassWithFactoryClassBulk<Integer>[] objs = ClassWithFactoryClassBulk::FACTORY.createN(3, 7, 9)
+		assertEquals(3, objs.length)
+		assertEquals(3, objs.toSet.size)
+		for (obj : objs) {
+			assertEquals(ClassWithFactoryClassBulk, obj.class)
+			assertEquals(7, obj.value)
+			assertEquals(9, obj.id)
+			assertEquals(1, obj.initCount)
+		}
+
+		// bulk factory method of derived factory class returns derived objects
+		val ClassWithFactoryClassBulk<String>[] objsDerived = ClassWithFactoryClassBulkDerived::FACTORY.createN(2, "a", 1)
+		assertEquals(2, objsDerived.length)
+		assertEquals(ClassWithFactoryClassBulkDerived, (objsDerived as Object).class.getComponentType)
+
+		assertEquals(0, ClassWithFactoryClassBulk::FACTORY.createN(0, 1, 1).length)
+
+		// construction checks are set up and removed correctly
+		assertFalse(FactoryMethodRuleProcessor::unregisterObjectConstructionViaFactory)
 
 	}
 
@@ -796,6 +955,137 @@ class UsingFactoryClassInterface {
 
 	}
 
+	@Test
+	def void testFactoryClassPooled() {
+
+		val obj1 = ClassWithFactoryClassPooled::FACTORY.create
+		val obj2 = ClassWithFactoryClassPooled::FACTORY.create
+		assertEquals(1, obj1.initCount)
+		assertNotSame(obj1, obj2)
+
+		// released objects are reset and recycled (without construction, but with init)
+		obj1.value = 5
+		assertTrue(ClassWithFactoryClassPooled::FACTORY.release(obj1))
+		assertEquals(1, obj1.value)
+
+		val obj3 = ClassWithFactoryClassPooled::FACTORY.create
+		assertSame(obj1, obj3)
+		assertEquals(2, obj3.initCount)
+
+		// pool is bounded
+		val obj4 = ClassWithFactoryClassPooled::FACTORY.create
+		assertTrue(ClassWithFactoryClassPooled::FACTORY.release(obj1))
+		assertTrue(ClassWithFactoryClassPooled::FACTORY.release(obj2))
+		assertFalse(ClassWithFactoryClassPooled::FACTORY.release(obj4))
+
+		// objects of derived classes are not put into the pool of the base class
+		assertFalse(ClassWithFactoryClassPooled::FACTORY.release(ClassWithFactoryClassPooledDerived::FACTORY.create))
+
+		// pool is confined to the current thread
+		val List<Object> objFromOtherThread = new ArrayList<Object>
+		val thread = new Thread([objFromOtherThread.add(ClassWithFactoryClassPooled::FACTORY.create)])
+		thread.start
+		thread.join
+		assertNotSame(obj1, objFromOtherThread.get(0))
+		assertNotSame(obj2, objFromOtherThread.get(0))
+
+	}
+
+	@Test
+	def void testFactoryClassPooledDoubleRelease() {
+
+		val obj1 = ClassWithFactoryClassPooled::FACTORY.create
+		val obj2 = ClassWithFactoryClassPooled::FACTORY.create
+
+		// an object, which is already in the pool, is not reset and not put into the pool again
+		assertTrue(ClassWithFactoryClassPooled::FACTORY.release(obj1))
+		obj1.value = 5
+		assertFalse(ClassWithFactoryClassPooled::FACTORY.release(obj1))
+		assertEquals(5, obj1.value)
+
+		// therefore, it is handed out only once
+		val obj3 = ClassWithFactoryClassPooled::FACTORY.create
+		val obj4 = ClassWithFactoryClassPooled::FACTORY.create
+		assertSame(obj1, obj3)
+		assertNotSame(obj1, obj4)
+		assertNotSame(obj2, obj4)
+
+	}
+
+	@Test
+	def void testFactoryClassPooledTraitClassConstruction() {
+
+		val obj = ClassWithFactoryClassPooledTrait::FACTORY.create
+		val traitObject = ReflectUtils.getPrivateFieldValue(obj, "delegate$TraitClassForPooledFactory")
+		assertEquals(1, obj.traitValue)
+		obj.traitValue = 5
+
+		// constructor methods (without parameters) of trait classes are called again when recycling
+		assertTrue(ClassWithFactoryClassPooledTrait::FACTORY.release(obj))
+		assertSame(obj, ClassWithFactoryClassPooledTrait::FACTORY.create)
+		assertEquals(1, obj.traitValue)
+		assertNotSame(traitObject, ReflectUtils.getPrivateFieldValue(obj, "delegate$TraitClassForPooledFactory"))
+
+	}
+
+	@Test
+	def void testFactoryClassPooledInvalid() {
+
+		'''
+
+package virtual
+
+import org.eclipse.xtend.lib.annotation.etai.ApplyRules
+import org.eclipse.xtend.lib.annotation.etai.FactoryMethodRule
+
+@ApplyRules
+@FactoryMethodRule(factoryMethod="create", poolSize=2, resetMethod="reset")
+class ClassWithPoolWithoutFactoryInstance {
+	def void reset() {}
+}
+
+@ApplyRules
+@FactoryMethodRule(factoryMethod="create", factoryInstance="FACTORY", poolSize=2)
+class ClassWithPoolWithoutResetMethod {
+}
+
+@ApplyRules
+@FactoryMethodRule(factoryMethod="create", factoryInstance="FACTORY", poolSize=2, resetMethod="reset")
+class ClassWithPoolWithInvalidResetMethod {
+	def int reset() { return 0 }
+}
+
+		'''.compile [
+
+			val extension ctx = transformationContext
+
+			val clazz1 = findClass("virtual.ClassWithPoolWithoutFactoryInstance")
+			val clazz2 = findClass("virtual.ClassWithPoolWithoutResetMethod")
+			val clazz3 = findClass("virtual.ClassWithPoolWithInvalidResetMethod")
+
+			val problemsClass1 = (clazz1.primarySourceElement as ClassDeclaration).problems
+			val problemsClass2 = (clazz2.primarySourceElement as ClassDeclaration).problems
+			val problemsClass3 = (clazz3.primarySourceElement as ClassDeclaration).problems
+
+			// do assertions
+			assertEquals(1, problemsClass1.size)
+			assertEquals(Severity.ERROR, problemsClass1.get(0).severity)
+			assertTrue(problemsClass1.get(0).message.contains("factory instance"))
+
+			assertEquals(1, problemsClass2.size)
+			assertEquals(Severity.ERROR, problemsClass2.get(0).severity)
+			assertTrue(problemsClass2.get(0).message.contains("reset method must be specified"))
+
+			assertEquals(1, problemsClass3.size)
+			assertEquals(Severity.ERROR, problemsClass3.get(0).severity)
+			assertTrue(problemsClass3.get(0).message.contains("reset method"))
+
+			assertEquals(3, allProblems.size)
+
+		]
+
+	}
+
 	@Test
 	def void testFactoryClassNonFinal() {
 
@@ -0,0 +1,106 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.adaption
+
+import org.eclipse.xtend.lib.annotation.etai.ConstantDefaultValueProvider
+import org.eclipse.xtend.lib.annotation.etai.DefaultValueProvider
+import org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class ClassForReflectUtilsBase {
+
+	int baseValue = 1
+
+	protected def int getBaseValue() {
+		return baseValue
+	}
+
+}
+
+class ClassForReflectUtilsDerived extends ClassForReflectUtilsBase {
+
+	protected def int multiply(int factor) {
+		return 2 * factor
+	}
+
+}
+
+class DefaultValueProviderCounting implements DefaultValueProvider<Integer> {
+
+	public static int INSTANCE_COUNTER = 0
+	public static int VALUE_COUNTER = 0
+
+	new() {
+		INSTANCE_COUNTER++
+	}
+
+	override Integer getDefaultValue() {
+		return 10 + VALUE_COUNTER++
+	}
+
+}
+
+class ConstantDefaultValueProviderCounting implements ConstantDefaultValueProvider<Integer> {
+
+	public static int VALUE_COUNTER = 0
+
+	override Integer getDefaultValue() {
+		return 10 + VALUE_COUNTER++
+	}
+
+}
+
+class ReflectUtilsTests {
+
+	@Test
+	def void testLookupCache() {
+
+		val obj = new ClassForReflectUtilsDerived
+
+		// first lookup fills cache, second lookup uses it
+		val size = ReflectUtils.lookupCacheSize
+		val method1 = ReflectUtils.getPrivateMethodExactMatch(ClassForReflectUtilsDerived, "multiply", #[int])
+		assertEquals(size + 1, ReflectUtils.lookupCacheSize)
+		val hits = ReflectUtils.lookupCacheHits
+		val method2 = ReflectUtils.getPrivateMethodExactMatch(ClassForReflectUtilsDerived, "multiply", #[int])
+		assertSame(method1, method2)
+		assertEquals(hits + 1, ReflectUtils.lookupCacheHits)
+		assertEquals(size + 1, ReflectUtils.lookupCacheSize)
+		assertTrue(ReflectUtils.lookupCacheHitRate > 0.0)
+
+		// lookups with different parameters or strategies are cached separately
+		assertNull(ReflectUtils.getPrivateMethodExactMatch(ClassForReflectUtilsDerived, "multiply", #[long]))
+		assertNull(ReflectUtils.getPrivateMethodExactMatch(ClassForReflectUtilsDerived, "multiply", #[long]))
+		assertEquals(method1, ReflectUtils.getPrivateMethodCovariantMatch(ClassForReflectUtilsDerived, "multiply", #[int]))
+		assertNull(ReflectUtils.getPrivateMethod(ClassForReflectUtilsDerived, "unknown"))
+		assertNull(ReflectUtils.getPrivateMethod(ClassForReflectUtilsDerived, "unknown"))
+		assertEquals(size + 4, ReflectUtils.lookupCacheSize)
+
+		// cached (private) methods and fields can be used multiple times
+		assertEquals(6, ReflectUtils.callPrivateMethod(obj, method1, #[3]))
+		assertEquals(8, ReflectUtils.callPrivateMethod(obj, method2, #[4]))
+		assertEquals(1, ReflectUtils.callPrivateMethod(obj, "getBaseValue"))
+		assertEquals(1, ReflectUtils.getPrivateFieldValue(obj, "baseValue"))
+		ReflectUtils.setPrivateFieldValue(obj, "baseValue", 5)
+		assertEquals(5, ReflectUtils.getPrivateFieldValue(obj, "baseValue"))
+		assertSame(ReflectUtils.getPrivateField(ClassForReflectUtilsDerived, "baseValue"),
+			ReflectUtils.getPrivateField(ClassForReflectUtilsDerived, "baseValue"))
+
+	}
+
+	@Test
+	def void testDefaultValueProviderCache() {
+
+		// default value provider is only created once, but queried for each call
+		assertEquals(10, ReflectUtils.getDefaultValue(DefaultValueProviderCounting))
+		assertEquals(11, ReflectUtils.getDefaultValue(DefaultValueProviderCounting))
+		assertEquals(1, DefaultValueProviderCounting.INSTANCE_COUNTER)
+
+		// constant default value provider is only queried once
+		assertEquals(10, ReflectUtils.getDefaultValue(ConstantDefaultValueProviderCounting))
+		assertEquals(10, ReflectUtils.getDefaultValue(ConstantDefaultValueProviderCounting))
+		assertEquals(1, ConstantDefaultValueProviderCounting.VALUE_COUNTER)
+
+	}
+
+}
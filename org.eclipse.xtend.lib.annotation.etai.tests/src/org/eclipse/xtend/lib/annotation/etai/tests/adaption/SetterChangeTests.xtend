@@ -492,6 +492,32 @@ class ClassWithSetterChangeNoConcurrent {
 
 }
 
+@ApplyRules
+class ClassWithSetterChangeException {
+
+	public boolean failBefore = false
+	public boolean failAfter = false
+	public val List<String> changes = new ArrayList<String>
+
+	@SetterRule(beforeChange="%BeforeChange", afterChange="%Changed")
+	@GetterRule
+	String data = "a"
+
+	protected def boolean dataBeforeChange(String oldValue, String newValue) {
+		if (failBefore)
+			throw new IllegalStateException
+		changes.add("before " + oldValue + " " + newValue + " " + data)
+		return newValue != "veto"
+	}
+
+	protected def void dataChanged(String oldValue, String newValue) {
+		changes.add("after " + oldValue + " " + newValue + " " + data)
+		if (failAfter)
+			throw new IllegalStateException
+	}
+
+}
+
 class GetterSetterChangeTests {
 
 	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
@@ -726,6 +752,52 @@ class GetterSetterChangeTests {
 
 	}
 
+	@Test
+	def void testChangeMethodsOrderAndException() {
+
+		val obj = new ClassWithSetterChangeException
+
+		// "before change" method sees old value in field, "after change" method the new one
+		assertTrue(obj.setData("b"))
+		assertEquals(#["before a b a", "after a b b"], obj.changes)
+
+		// cancelled change
+		obj.changes.clear
+		assertFalse(obj.setData("veto"))
+		assertEquals("b", obj.data)
+		assertEquals(#["before b veto b"], obj.changes)
+
+		// no change
+		obj.changes.clear
+		assertFalse(obj.setData("b"))
+		assertEquals(0, obj.changes.size)
+
+		// exception in "before change" method: no change, but field can be changed afterwards
+		obj.failBefore = true
+		try {
+			obj.setData("c")
+			fail("IllegalStateException expected")
+		} catch (IllegalStateException exception) {
+		}
+		assertEquals("b", obj.data)
+		obj.failBefore = false
+		assertTrue(obj.setData("c"))
+		assertEquals("c", obj.data)
+
+		// exception in "after change" method: change has been performed and field can be changed afterwards
+		obj.failAfter = true
+		try {
+			obj.setData("d")
+			fail("IllegalStateException expected")
+		} catch (IllegalStateException exception) {
+		}
+		assertEquals("d", obj.data)
+		obj.failAfter = false
+		assertTrue(obj.setData("e"))
+		assertEquals("e", obj.data)
+
+	}
+
 	@Test
 	def void testMethodNotFoundError() {
 
@@ -1,16 +1,33 @@
 package org.eclipse.xtend.lib.annotation.etai.tests.adaption
 
 import org.eclipse.xtend.core.compiler.batch.XtendCompilerTester
+import org.eclipse.xtend.lib.annotation.etai.AdderRule
 import org.eclipse.xtend.lib.annotation.etai.ApplyRules
+import org.eclipse.xtend.lib.annotation.etai.CollectionGetterPolicy
+import org.eclipse.xtend.lib.annotation.etai.ExclusiveMethod
+import org.eclipse.xtend.lib.annotation.etai.ExtendedByAuto
 import org.eclipse.xtend.lib.annotation.etai.GetterRule
+import org.eclipse.xtend.lib.annotation.etai.NotNullRule
+import org.eclipse.xtend.lib.annotation.etai.RemoverRule
 import org.eclipse.xtend.lib.annotation.etai.SetterRule
+import org.eclipse.xtend.lib.annotation.etai.SynchronizationLockStrategy
 import org.eclipse.xtend.lib.annotation.etai.SynchronizationRule
+import org.eclipse.xtend.lib.annotation.etai.SynchronizationRuleProcessor
+import org.eclipse.xtend.lib.annotation.etai.TraitClass
+import org.eclipse.xtend.lib.annotation.etai.tests.adaption.intf.ITraitWithSynchronizationLock
+import org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils
 import org.eclipse.xtend.lib.macro.declaration.FieldDeclaration
 import org.eclipse.xtend.lib.macro.services.Problem.Severity
 import org.junit.Test
 
 import static org.junit.Assert.*
 import java.util.ArrayList
+import java.util.HashSet
+import java.util.List
+import java.util.Set
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicInteger
+import java.lang.reflect.Modifier
 
 @ApplyRules
 class ClassForReentrantSynchronizationLock {
@@ -39,6 +56,136 @@ class ClassForReentrantSynchronizationLock {
 
 }
 
+@ApplyRules
+class ClassForConcurrentModificationLock {
+
+	@SetterRule(afterChange="%Changed")
+	@GetterRule
+	int value
+
+	public val AtomicInteger rejectedChanges = new AtomicInteger
+	public CountDownLatch inChangeMethod = null
+	public CountDownLatch continueChangeMethod = null
+
+	protected def void valueChanged(int newValue) {
+
+		if (inChangeMethod !== null) {
+			val latch = inChangeMethod
+			inChangeMethod = null
+			latch.countDown
+			continueChangeMethod.await
+		}
+
+		if (!setValue(newValue + 1))
+			rejectedChanges.incrementAndGet
+
+	}
+
+}
+
+@ApplyRules
+class ClassForSynchronizedSetterChangeMethods {
+
+	public int changes = 0
+	public int inconsistentChanges = 0
+	int lastNewValue = 0
+
+	@SetterRule(beforeChange="%BeforeChange", afterChange="%Changed")
+	@GetterRule
+	@SynchronizationRule("SetterChangeMethods")
+	int value
+
+	protected def boolean valueBeforeChange(int oldValue, int newValue) {
+		if (oldValue != lastNewValue)
+			inconsistentChanges++
+		return true
+	}
+
+	protected def void valueChanged(int oldValue, int newValue) {
+		if (oldValue != lastNewValue || value != newValue)
+			inconsistentChanges++
+		lastNewValue = newValue
+		changes++
+	}
+
+}
+
+@ApplyRules
+class ClassWithSynchronizationLockStrategies {
+
+	@GetterRule(collectionPolicy=CollectionGetterPolicy.UNMODIFIABLE_COPY)
+	@AdderRule(multiple=true)
+	@RemoverRule(multiple=true)
+	@SynchronizationRule("LockStrategyFair")
+	List<Integer> dataFair = new ArrayList<Integer>
+
+	@GetterRule(collectionPolicy=CollectionGetterPolicy.UNMODIFIABLE_COPY)
+	@AdderRule(multiple=true)
+	@RemoverRule(multiple=true)
+	@SynchronizationRule(value="LockStrategyNonFair", strategy=SynchronizationLockStrategy.NON_FAIR)
+	List<Integer> dataNonFair = new ArrayList<Integer>
+
+	@GetterRule(collectionPolicy=CollectionGetterPolicy.UNMODIFIABLE_COPY)
+	@AdderRule(multiple=true, afterAdd="%Added")
+	@RemoverRule(multiple=true)
+	@SynchronizationRule(value="LockStrategyOptimisticRead", strategy=SynchronizationLockStrategy.OPTIMISTIC_READ)
+	List<Integer> dataOptimisticRead = new ArrayList<Integer>
+
+	@GetterRule
+	@SetterRule
+	@SynchronizationRule(value="LockStrategyOptimisticRead", strategy=SynchronizationLockStrategy.OPTIMISTIC_READ)
+	int sizeOptimisticRead = 0
+
+	protected def void dataOptimisticReadAdded() {
+		// getter and setter (same lock) within adder
+		sizeOptimisticRead = getDataOptimisticRead.size
+	}
+
+}
+
+@ApplyRules
+class ClassWithOptimisticReadContention {
+
+	@GetterRule
+	@SetterRule
+	@SynchronizationRule(value="LockStrategyOptimisticReadContention", strategy=SynchronizationLockStrategy.OPTIMISTIC_READ)
+	long value = 0
+
+	@GetterRule(collectionPolicy=CollectionGetterPolicy.UNMODIFIABLE)
+	@AdderRule(single=true)
+	@RemoverRule(multiple=true)
+	@NotNullRule(notNullKeyOrElement=true)
+	@SynchronizationRule(value="LockStrategyOptimisticReadContention", strategy=SynchronizationLockStrategy.OPTIMISTIC_READ)
+	Set<Integer> data = new HashSet<Integer>
+
+}
+
+@ApplyRules
+class ClassWithSynchronizationLockStrategyMismatch {
+
+	@GetterRule
+	@SynchronizationRule(value="LockStrategyFair", strategy=SynchronizationLockStrategy.NON_FAIR)
+	int data
+
+}
+
+@ApplyRules
+@TraitClass
+abstract class TraitWithSynchronizationLock {
+
+	@GetterRule
+	@SetterRule
+	@ExclusiveMethod
+	@SynchronizationRule("LockInTrait")
+	int traitData
+
+}
+
+@ApplyRules
+@ExtendedByAuto
+class ClassWithTraitSynchronizationLock implements ITraitWithSynchronizationLock {
+}
+
 class SynchronizationTests {
 
 	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
@@ -143,6 +290,270 @@ class SynchronizationTests {
 
 	}
 
+	@Test
+	def void testConcurrentModificationLockPerThread() {
+
+		val obj = new ClassForConcurrentModificationLock
+		obj.inChangeMethod = new CountDownLatch(1)
+		obj.continueChangeMethod = new CountDownLatch(1)
+
+		val latchInChangeMethod = obj.inChangeMethod
+		val thread = new Thread([obj.value = 1])
+		thread.start
+
+		// the other thread is blocked in the change method (field is locked there),
+		// but the field can be modified by this thread
+		latchInChangeMethod.await
+		assertTrue(obj.setValue(10))
+		assertEquals(1, obj.rejectedChanges.get)
+
+		obj.continueChangeMethod.countDown
+		thread.join
+
+		assertEquals(10, obj.value)
+		assertEquals(2, obj.rejectedChanges.get)
+
+	}
+
+	@Test
+	def void testConcurrentModificationLockContention() {
+
+		val sharedObj = new ClassForConcurrentModificationLock
+		val failures = new AtomicInteger
+
+		val threads = new ArrayList(32);
+		for (var i = 0; i < 32; i++) {
+
+			val threadIndex = i
+			threads.add(new Thread([
+				val obj = new ClassForConcurrentModificationLock
+				for (var j = 1; j <= 10000; j++) {
+					if (!obj.setValue(j * 2) || obj.value != j * 2)
+						failures.incrementAndGet
+					sharedObj.setValue(threadIndex * 100000 + j)
+				}
+				if (obj.rejectedChanges.get != 10000)
+					failures.incrementAndGet
+			]))
+
+		}
+		for (var i = 0; i < 32; i++)
+			threads.get(i).start
+		for (var i = 0; i < 32; i++)
+			threads.get(i).join
+
+		assertEquals(0, failures.get)
+		assertEquals(32 * 10000, sharedObj.rejectedChanges.get)
+
+	}
+
+	@Test
+	def void testSynchronizedSetterChangeMethods() {
+
+		val obj = new ClassForSynchronizedSetterChangeMethods
+
+		// values of threads differ, so each call is a change, which must be seen
+		// by change methods without interference of other threads
+		val threads = new ArrayList(16);
+		for (var i = 0; i < 16; i++) {
+
+			val threadIndex = i
+			threads.add(new Thread([
+				for (var j = 1; j <= 5000; j++)
+					obj.setValue(j * 16 + threadIndex)
+			]))
+
+		}
+		for (thread : threads)
+			thread.start
+		for (thread : threads)
+			thread.join
+
+		assertEquals(0, obj.inconsistentChanges)
+		assertTrue(obj.changes >= 5000)
+
+	}
+
+	@Test
+	def void testSynchronizedBidirectionalSetters() {
+
+		val objsA = new ArrayList<BidirectionalA<Integer>>
+		val objsB = new ArrayList<BidirectionalB>
+		for (var i = 0; i < 8; i++) {
+			objsA.add(new BidirectionalA<Integer>)
+			objsB.add(new BidirectionalB)
+		}
+
+		// fields of both sides use the same lock, so each change including
+		// the change of opposite references is atomic
+		val threads = new ArrayList(16);
+		for (var i = 0; i < 16; i++) {
+
+			val threadIndex = i
+			threads.add(new Thread([
+				for (var j = 0; j < 5000; j++) {
+					val objA = objsA.get((j + threadIndex) % objsA.size)
+					if (j % 7 == 0)
+						objA.singleB = null
+					else
+						objA.singleB = objsB.get((j * 3 + threadIndex) % objsB.size)
+				}
+			]))
+
+		}
+		for (thread : threads)
+			thread.start
+		for (thread : threads)
+			thread.join
+
+		for (objA : objsA)
+			assertTrue(objA.singleB === null || objA.singleB.singleA === objA)
+		for (objB : objsB)
+			assertTrue(objB.singleA === null || objB.singleA.singleB === objB)
+
+	}
+
+	@Test
+	def void testSynchronizationLockStrategies() {
+
+		val obj = new ClassWithSynchronizationLockStrategies
+		val failures = new AtomicInteger
+		val finished = new CountDownLatch(4)
+
+		val threads = new ArrayList(16);
+		for (var i = 0; i < 4; i++) {
+
+			threads.add(new Thread([
+				for (var j = 0; j < 2000; j++) {
+					obj.addAllToDataFair(#[j, j])
+					obj.addAllToDataNonFair(#[j, j])
+					obj.addAllToDataOptimisticRead(#[j, j])
+					if (j % 2 == 1) {
+						obj.clearDataFair
+						obj.clearDataNonFair
+						obj.clearDataOptimisticRead
+					}
+				}
+				finished.countDown
+			]))
+
+		}
+		for (var i = 0; i < 12; i++) {
+
+			threads.add(new Thread([
+				while (finished.count > 0) {
+					if (obj.dataFair.size % 2 != 0 || obj.dataNonFair.size % 2 != 0 ||
+						obj.dataOptimisticRead.size % 2 != 0)
+						failures.incrementAndGet
+				}
+			]))
+
+		}
+		for (thread : threads)
+			thread.start
+		for (thread : threads)
+			thread.join
+
+		assertEquals(0, failures.get)
+		assertEquals(0, obj.dataOptimisticRead.size)
+
+		assertTrue(obj.addAllToDataOptimisticRead(#[1, 2, 3]))
+		assertEquals(3, obj.sizeOptimisticRead)
+
+	}
+
+	@Test
+	def void testOptimisticReadContention() {
+
+		val obj = new ClassWithOptimisticReadContention
+		val failures = new AtomicInteger
+		val finished = new CountDownLatch(2)
+
+		// getters (scalar and unmodifiable view, which is checked for null elements without lock)
+		// are called while the values are changed, so optimistic reads must be validated and retried
+		val threads = new ArrayList(10);
+		for (var i = 0; i < 2; i++) {
+
+			val threadIndex = i
+			threads.add(new Thread([
+				for (var j = 1; j <= 20000; j++) {
+					obj.value = j * 0x100000001#L
+					obj.addToData(j * 2 + threadIndex)
+					if (j % 100 == 0)
+						obj.clearData
+				}
+				finished.countDown
+			]))
+
+		}
+		for (var i = 0; i < 8; i++) {
+
+			threads.add(new Thread([
+				try {
+					while (finished.count > 0) {
+						val value = obj.value
+						if (value / 0x100000000#L != value % 0x100000000#L)
+							failures.incrementAndGet
+						if (obj.data === null)
+							failures.incrementAndGet
+					}
+				} catch (Throwable throwable) {
+					failures.incrementAndGet
+				}
+			]))
+
+		}
+		for (thread : threads)
+			thread.start
+		for (thread : threads)
+			thread.join
+
+		assertEquals(0, failures.get)
+		assertEquals(20000 * 0x100000001#L, obj.value)
+		assertTrue(obj.data.empty)
+
+	}
+
+	@Test
+	def void testSynchronizationLockInTrait() {
+
+		val fieldName = SynchronizationRuleProcessor.SYNCHRONIZATION_LOCK_FIELD_NAME_PREFIX + "traitData"
+
+		// the trait class (which holds the field) resolves the lock once in a static field
+		val lockField = TraitWithSynchronizationLock.getDeclaredField(fieldName)
+		assertTrue(Modifier.isStatic(lockField.modifiers))
+		assertTrue(Modifier.isFinal(lockField.modifiers))
+		lockField.accessible = true
+		assertSame(GetterSetterUtils.getSynchronizationLock("LockInTrait", SynchronizationLockStrategy.FAIR),
+			lockField.get(null))
+
+		// the extended class does not hold the field, but delegates to the trait
+		assertEquals(0, ClassWithTraitSynchronizationLock.declaredFields.filter[name == fieldName].size)
+
+		val obj = new ClassWithTraitSynchronizationLock
+		obj.traitData = 3
+		assertEquals(3, obj.traitData)
+
+	}
+
+	@Test
+	def void testSynchronizationLockStrategyMismatch() {
+
+		// ensure that lock has been created
+		new ClassWithSynchronizationLockStrategies
+
+		// lock is resolved in static initializer
+		var boolean exceptionThrown = false
+		try {
+			new ClassWithSynchronizationLockStrategyMismatch
+		} catch (ExceptionInInitializerError error) {
+			assertTrue(error.cause instanceof IllegalStateException)
+			exceptionThrown = true
+		}
+		assertTrue(exceptionThrown)
+
+	}
+
 	@Test
 	def void testSynchronizationUsageError() {
 
@@ -0,0 +1,35 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.benchmark
+
+import java.util.ArrayList
+import java.util.List
+import org.eclipse.xtend.lib.annotation.etai.AdderRule
+import org.eclipse.xtend.lib.annotation.etai.ApplyRules
+import org.eclipse.xtend.lib.annotation.etai.GetterRule
+
+@ApplyRules
+class ClassForAdderBulkFillBenchmark {
+
+	@GetterRule
+	@AdderRule(single=true)
+	List<Integer> data = new ArrayList<Integer>
+
+}
+
+/**
+ * <p>Fills lists of increasing size element by element via a generated adder. The cost per
+ * element must stay (roughly) constant, i.e., the cost for filling the list must be linear.</p>
+ */
+class AdderBulkFillBenchmark {
+
+	def static void main(String[] args) {
+
+		for (size : #[1_000, 10_000, 100_000])
+			Benchmark.measureTime("fill " + size + " elements (per element)", size, [
+				val obj = new ClassForAdderBulkFillBenchmark
+				for (var i = 0; i < size; i++)
+					obj.addToData(i)
+			])
+
+	}
+
+}
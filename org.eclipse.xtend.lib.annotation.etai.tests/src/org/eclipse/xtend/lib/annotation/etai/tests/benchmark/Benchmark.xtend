@@ -0,0 +1,60 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.benchmark
+
+import java.lang.management.ManagementFactory
+
+/**
+ * <p>Minimal helper for the micro benchmarks in this package.</p>
+ * 
+ * <p>The benchmarks are no tests. They are started via their <code>main</code> method
+ * and print their results. Results are only meaningful relative to each other
+ * (same JVM, same machine).</p>
+ */
+class Benchmark {
+
+	static val WARMUP_ROUNDS = 5
+	static val MEASUREMENT_ROUNDS = 5
+
+	/**
+	 * <p>Runs the given operation (which performs the given number of operations) several times
+	 * for warming up and afterwards for measuring. Prints and returns the best result
+	 * in nanoseconds per operation.</p>
+	 */
+	static def double measureTime(String name, int operations, Runnable operation) {
+
+		for (var i = 0; i < WARMUP_ROUNDS; i++)
+			operation.run
+
+		var best = Double.MAX_VALUE
+		for (var i = 0; i < MEASUREMENT_ROUNDS; i++) {
+			val start = System.nanoTime
+			operation.run
+			best = Math.min(best, (System.nanoTime - start) as double / operations)
+		}
+
+		System.out.println(String.format("%-50s %10.2f ns/op", name, best))
+		return best
+
+	}
+
+	/**
+	 * <p>Runs the given operation (which performs the given number of operations) after warming up
+	 * and measures the memory allocated by the current thread. Prints and returns the result
+	 * in bytes per operation.</p>
+	 */
+	static def double measureAllocation(String name, int operations, Runnable operation) {
+
+		val threadBean = ManagementFactory.threadMXBean as com.sun.management.ThreadMXBean
+
+		for (var i = 0; i < WARMUP_ROUNDS; i++)
+			operation.run
+
+		val before = threadBean.currentThreadAllocatedBytes
+		operation.run
+		val result = (threadBean.currentThreadAllocatedBytes - before) as double / operations
+
+		System.out.println(String.format("%-50s %10.2f B/op", name, result))
+		return result
+
+	}
+
+}
@@ -0,0 +1,87 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.benchmark
+
+import java.util.Random
+import org.eclipse.xtend.lib.annotation.etai.EnvelopeMethod
+import org.eclipse.xtend.lib.annotation.etai.ExtendedByAuto
+import org.eclipse.xtend.lib.annotation.etai.TraitClass
+import org.eclipse.xtend.lib.annotation.etai.tests.benchmark.intf.ITraitClassForEnvelopeCallBenchmark
+import org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils
+
+@TraitClass
+abstract class TraitClassForEnvelopeCallBenchmark {
+
+	@EnvelopeMethod
+	override int compute(int x) {
+		return compute$extended(x) + 1
+	}
+
+}
+
+@ExtendedByAuto
+class ClassForEnvelopeCallBenchmark implements ITraitClassForEnvelopeCallBenchmark {
+
+	override int compute(int x) {
+		return x.bitwiseXor(5)
+	}
+
+}
+
+/**
+ * <p>Measures the cost of calling a method enveloped by an envelope method of a trait class (time
+ * and allocated memory per call). The generated code calls the enveloped method of the extended
+ * class via a method handle, which is resolved once per extended class. As a reference, the
+ * enveloped method is called via {@link ReflectUtils#callMethodInExtendedClass} (shape of the
+ * code, which has been generated before).</p>
+ */
+class EnvelopeCallBenchmark {
+
+	static val OPERATIONS = 10_000_000
+
+	static val ENVELOPED_METHOD_NAME = "compute__$beforeExtended$__TraitClassForEnvelopeCallBenchmark"
+
+	public static var int sink
+
+	def static void main(String[] args) {
+
+		val obj = new ClassForEnvelopeCallBenchmark
+		val random = new Random(42)
+		val int[] values = newIntArrayOfSize(1024)
+		for (var i = 0; i < values.length; i++)
+			values.set(i, random.nextInt(1000))
+
+		if (obj.compute(7) != callViaReflection(obj, 7))
+			throw new IllegalStateException("Generated code and reference do not match")
+
+		// results are consumed, so the calls cannot be eliminated
+		val Runnable generatedRun = [
+			var sum = 0
+			for (var i = 0; i < OPERATIONS; i++)
+				sum += obj.compute(values.get(i % values.length))
+			sink = sum
+		]
+		val Runnable referenceRun = [
+			var sum = 0
+			for (var i = 0; i < OPERATIONS; i++)
+				sum += callViaReflection(obj, values.get(i % values.length))
+			sink = sum
+		]
+
+		Benchmark.measureTime("generated (cached method handle)", OPERATIONS, generatedRun)
+		Benchmark.measureTime("reference (reflection per call)", OPERATIONS, referenceRun)
+		Benchmark.measureAllocation("generated (cached method handle)", OPERATIONS, generatedRun)
+		Benchmark.measureAllocation("reference (reflection per call)", OPERATIONS, referenceRun)
+
+	}
+
+	/**
+	 * <p>Shape of the envelope method, which has been generated before the method of the extended
+	 * class has been resolved once per class.</p>
+	 */
+	static def int callViaReflection(Object obj, int x) {
+
+		return (ReflectUtils.callMethodInExtendedClass(obj, ENVELOPED_METHOD_NAME, null, false, #[int],
+			#[x]) as Integer) + 1
+
+	}
+
+}
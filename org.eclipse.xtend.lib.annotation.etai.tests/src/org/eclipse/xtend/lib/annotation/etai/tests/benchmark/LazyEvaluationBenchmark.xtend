@@ -0,0 +1,118 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.benchmark
+
+import java.util.ArrayList
+import org.eclipse.xtend.lib.annotation.etai.ExtendedByAuto
+import org.eclipse.xtend.lib.annotation.etai.LazyEvaluation
+import org.eclipse.xtend.lib.annotation.etai.LazyEvaluationAbstract
+import org.eclipse.xtend.lib.annotation.etai.ProcessedMethod
+import org.eclipse.xtend.lib.annotation.etai.StatelessProcessor
+import org.eclipse.xtend.lib.annotation.etai.TraitClassAutoUsing
+import org.eclipse.xtend.lib.annotation.etai.TraitMethodProcessor
+import org.eclipse.xtend.lib.annotation.etai.tests.benchmark.intf.ITraitClassForLazyEvaluationBenchmark
+
+/**
+ * <p>Same behavior as {@link org.eclipse.xtend.lib.annotation.etai.EPFirstNotNullPost}, but it is not
+ * a built-in processor, so the generated code must create lazy evaluation objects.</p>
+ */
+@StatelessProcessor
+class FirstNotNullPostBenchmarkProcessor implements TraitMethodProcessor {
+
+	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+
+		if (expressionExtendedClass !== null) {
+			val result = expressionExtendedClass.eval
+			if (result !== null)
+				return result
+		}
+		return expressionTraitClass.eval
+
+	}
+
+}
+
+@TraitClassAutoUsing
+abstract class TraitClassForLazyEvaluationBenchmark {
+
+	@ProcessedMethod(processor=FirstNotNullPostBenchmarkProcessor)
+	override Object select(Object first, Object second) {
+		return second
+	}
+
+}
+
+@ExtendedByAuto
+class ClassForLazyEvaluationBenchmark implements ITraitClassForLazyEvaluationBenchmark {
+
+	override Object select(Object first, Object second) {
+		return first
+	}
+
+}
+
+/**
+ * <p>Measures the cost of calling a processed trait method with two arguments (time and allocated
+ * memory per call). The generated code captures the arguments in the lazy evaluation objects. As a
+ * reference, the same call is performed via {@link LazyEvaluationAbstract} objects, which copy the
+ * arguments into lists.</p>
+ * 
+ * <p>The allocation result depends on escape analysis of the JIT compiler, so it should be
+ * interpreted for the used JVM only.</p>
+ */
+class LazyEvaluationBenchmark {
+
+	static val OPERATIONS = 10_000_000
+
+	public static var int sink
+
+	def static void main(String[] args) {
+
+		val obj = new ClassForLazyEvaluationBenchmark
+		val processor = new FirstNotNullPostBenchmarkProcessor
+		val Object[] firsts = #["first", null, new Object, null]
+		val second = "second"
+
+		// results are consumed, so the calls cannot be eliminated
+		val Runnable generated = [
+			var count = 0
+			for (var i = 0; i < OPERATIONS; i++)
+				if (obj.select(firsts.get(i % firsts.length), second) === second)
+					count++
+			sink = count
+		]
+		val Runnable reference = [
+			var count = 0
+			for (var i = 0; i < OPERATIONS; i++)
+				if (callViaLazyEvaluationAbstract(processor, firsts.get(i % firsts.length), second) === second)
+					count++
+			sink = count
+		]
+
+		Benchmark.measureTime("generated (captured arguments)", OPERATIONS, generated)
+		Benchmark.measureTime("reference (LazyEvaluationAbstract)", OPERATIONS, reference)
+		Benchmark.measureAllocation("generated (captured arguments)", OPERATIONS, generated)
+		Benchmark.measureAllocation("reference (LazyEvaluationAbstract)", OPERATIONS, reference)
+
+	}
+
+	/**
+	 * <p>Shape of the code, which has been generated before arguments were captured.</p>
+	 */
+	static def Object callViaLazyEvaluationAbstract(TraitMethodProcessor processor, Object first, Object second) {
+
+		val arguments = new ArrayList<Object>
+		arguments.add(first)
+		arguments.add(second)
+
+		return processor.call(new LazyEvaluationAbstract(null, arguments) {
+			override Object eval() {
+				return getArgument(1)
+			}
+		}, new LazyEvaluationAbstract(null, arguments) {
+			override Object eval() {
+				return getArgument(0)
+			}
+		})
+
+	}
+
+}
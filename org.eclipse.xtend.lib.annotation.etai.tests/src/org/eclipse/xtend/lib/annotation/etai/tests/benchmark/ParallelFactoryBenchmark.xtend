@@ -0,0 +1,144 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.benchmark
+
+import java.util.ArrayList
+import java.util.HashMap
+import java.util.List
+import java.util.Map
+import org.eclipse.xtend.lib.annotation.etai.ApplyRules
+import org.eclipse.xtend.lib.annotation.etai.FactoryMethodRule
+import org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor
+
+@ApplyRules
+@FactoryMethodRule(factoryMethod="create")
+class ClassForParallelFactoryBenchmark {
+
+	public int value = 1
+
+}
+
+class PlainClassForParallelFactoryBenchmark {
+
+	public int value = 1
+
+}
+
+/**
+ * <p>Registry for checking the construction via factory method as it has been implemented before:
+ * a map from thread to construction stack, which is guarded by a JVM-wide monitor.</p>
+ */
+class SynchronizedRegistryForParallelFactoryBenchmark {
+
+	static val Map<Thread, List<Object>> REGISTRY = new HashMap<Thread, List<Object>>
+
+	static synchronized def boolean register() {
+
+		val thread = Thread.currentThread
+		var List<Object> registeredForThread = REGISTRY.get(thread)
+		if (registeredForThread === null) {
+			registeredForThread = new ArrayList<Object>
+			REGISTRY.put(thread, registeredForThread)
+		}
+		registeredForThread.add(null)
+
+	}
+
+	static synchronized def boolean check(Object checkObject) {
+
+		val registeredForThread = REGISTRY.get(Thread.currentThread)
+		if (registeredForThread === null)
+			return false
+		if (registeredForThread.get(registeredForThread.size - 1) === null) {
+			registeredForThread.set(registeredForThread.size - 1, checkObject)
+			return true
+		}
+		return registeredForThread.get(registeredForThread.size - 1) === checkObject
+
+	}
+
+	static synchronized def boolean unregister() {
+
+		val thread = Thread.currentThread
+		val registeredForThread = REGISTRY.get(thread)
+		if (registeredForThread === null)
+			return false
+		registeredForThread.remove(registeredForThread.size - 1)
+		if (registeredForThread.size === 0)
+			REGISTRY.remove(thread)
+		return true
+
+	}
+
+}
+
+/**
+ * <p>Measures the cost of constructing objects via factory method in 1, 4 and 16 threads in parallel
+ * (wall-clock time per construction). The registry, which checks the construction via factory method,
+ * is confined to the current thread. As a reference, the same steps (register, construct, check and
+ * unregister) are performed with the registry, which has been used before
+ * ({@link SynchronizedRegistryForParallelFactoryBenchmark}).</p>
+ *
+ * <p>Generated factory methods and constructors only use the registry if assertions are enabled,
+ * so the complete factory call is only measured with <code>-ea</code>.</p>
+ */
+class ParallelFactoryBenchmark {
+
+	static val OPERATIONS_PER_THREAD = 1_000_000
+
+	public static volatile int sink
+
+	def static void main(String[] args) {
+
+		for (threadCount : #[1, 4, 16]) {
+
+			val operations = threadCount * OPERATIONS_PER_THREAD
+
+			Benchmark.measureTime('''registry thread-local («threadCount» threads)''', operations, parallel(threadCount, [
+				FactoryMethodRuleProcessor.registerObjectConstructionViaFactory
+				val obj = new PlainClassForParallelFactoryBenchmark
+				FactoryMethodRuleProcessor.checkObjectConstructionViaFactory(obj)
+				FactoryMethodRuleProcessor.unregisterObjectConstructionViaFactory
+				return obj.value
+			]))
+			Benchmark.measureTime('''reference synchronized map («threadCount» threads)''', operations,
+				parallel(threadCount, [
+					SynchronizedRegistryForParallelFactoryBenchmark.register
+					val obj = new PlainClassForParallelFactoryBenchmark
+					SynchronizedRegistryForParallelFactoryBenchmark.check(obj)
+					SynchronizedRegistryForParallelFactoryBenchmark.unregister
+					return obj.value
+				]))
+
+			if (FactoryMethodRuleProcessor.desiredAssertionStatus)
+				Benchmark.measureTime('''factory method («threadCount» threads)''', operations, parallel(threadCount, [
+					return ClassForParallelFactoryBenchmark.create.value
+				]))
+
+		}
+
+	}
+
+	/**
+	 * <p>Returns an operation, which runs the given construction in the given number of threads
+	 * (each of them performs {@link #OPERATIONS_PER_THREAD} constructions) and waits for all of them.</p>
+	 */
+	static def Runnable parallel(int threadCount, () => int construction) {
+
+		return [
+			val threads = new ArrayList<Thread>
+			for (var i = 0; i < threadCount; i++)
+				threads.add(new Thread([
+					// results are consumed, so the constructions cannot be eliminated
+					var sum = 0
+					for (var j = 0; j < OPERATIONS_PER_THREAD; j++)
+						sum += construction.apply
+					sink = sum
+				]))
+			for (thread : threads)
+				thread.start
+			for (thread : threads)
+				thread.join
+		]
+
+	}
+
+}
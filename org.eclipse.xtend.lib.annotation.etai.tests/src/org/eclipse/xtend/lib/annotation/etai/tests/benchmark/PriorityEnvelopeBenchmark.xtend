@@ -0,0 +1,130 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.benchmark
+
+import java.util.Random
+import org.eclipse.xtend.lib.annotation.etai.ApplyRules
+import org.eclipse.xtend.lib.annotation.etai.DefaultValueProvider
+import org.eclipse.xtend.lib.annotation.etai.ExtendedByAuto
+import org.eclipse.xtend.lib.annotation.etai.PriorityEnvelopeMethod
+import org.eclipse.xtend.lib.annotation.etai.TraitClass
+import org.eclipse.xtend.lib.annotation.etai.tests.benchmark.intf.ITraitClassForPriorityEnvelopeBenchmarkPrio1000
+import org.eclipse.xtend.lib.annotation.etai.tests.benchmark.intf.ITraitClassForPriorityEnvelopeBenchmarkPrio200
+import org.eclipse.xtend.lib.annotation.etai.tests.benchmark.intf.ITraitClassForPriorityEnvelopeBenchmarkPrio300000
+
+@TraitClass
+abstract class TraitClassForPriorityEnvelopeBenchmarkPrio200 {
+
+	@PriorityEnvelopeMethod(200)
+	override int compute(int x) {
+		return compute$extended(x + 1)
+	}
+
+}
+
+@TraitClass
+abstract class TraitClassForPriorityEnvelopeBenchmarkPrio1000 {
+
+	@PriorityEnvelopeMethod(1000)
+	override int compute(int x) {
+		return compute$extended(x * 3)
+	}
+
+}
+
+@TraitClass
+abstract class TraitClassForPriorityEnvelopeBenchmarkPrio300000 {
+
+	@PriorityEnvelopeMethod(300000)
+	override int compute(int x) {
+		return compute$extended(x - 2)
+	}
+
+}
+
+@ExtendedByAuto
+@ApplyRules
+class ClassForPriorityEnvelopeBenchmark implements ITraitClassForPriorityEnvelopeBenchmarkPrio200, ITraitClassForPriorityEnvelopeBenchmarkPrio1000, ITraitClassForPriorityEnvelopeBenchmarkPrio300000 {
+
+	override int compute(int x) {
+		return x.bitwiseXor(5)
+	}
+
+}
+
+/**
+ * <p>Same class, but the priority envelope caller dispatches like the code, which has been generated before:
+ * the priority of the caller is boxed and the envelope method with the next lower priority is searched by
+ * a chain of comparisons.</p>
+ */
+class ClassForPriorityEnvelopeBenchmarkIfChain extends ClassForPriorityEnvelopeBenchmark {
+
+	override protected int compute$priorityEnvelopeCaller(int x, int currentPriority,
+		Class<? extends DefaultValueProvider<?>> defaultValueProvider) {
+		return computeIfChain(x, currentPriority)
+	}
+
+	def int computeIfChain(int x, Integer currentPriority) {
+
+		if (currentPriority > 300000)
+			return delegate$TraitClassForPriorityEnvelopeBenchmarkPrio300000.compute$impl(x)
+		if (currentPriority > 1000)
+			return delegate$TraitClassForPriorityEnvelopeBenchmarkPrio1000.compute$impl(x)
+		if (currentPriority > 200)
+			return delegate$TraitClassForPriorityEnvelopeBenchmarkPrio200.compute$impl(x)
+		return compute$impl(x)
+
+	}
+
+}
+
+/**
+ * <p>Measures the cost of calling a method enveloped by three priority envelope methods (time and
+ * allocated memory per call). The generated code dispatches via a switch on the (primitive) priority
+ * of the caller. As a reference, the previous dispatch is performed by {@link ClassForPriorityEnvelopeBenchmarkIfChain}.</p>
+ *
+ * <p>Both variants enter the chain via the priority envelope caller, because the delegation method
+ * redirects calls of derived classes, which are not processed by {@link ApplyRules}.</p>
+ *
+ * <p>The priorities 1000 and 300000 are outside the <code>Integer</code> cache, i.e., boxing them
+ * allocates unless the JIT compiler eliminates it. In this (inlined) shape, escape analysis usually
+ * removes the allocation, so the difference is only visible with <code>-XX:-DoEscapeAnalysis</code>.</p>
+ */
+class PriorityEnvelopeBenchmark {
+
+	static val OPERATIONS = 10_000_000
+
+	public static var int sink
+
+	def static void main(String[] args) {
+
+		val obj = new ClassForPriorityEnvelopeBenchmark
+		val reference = new ClassForPriorityEnvelopeBenchmarkIfChain
+		val random = new Random(42)
+		val int[] values = newIntArrayOfSize(1024)
+		for (var i = 0; i < values.length; i++)
+			values.set(i, random.nextInt(1000))
+
+		if (obj.compute(7) != reference.compute$priorityEnvelopeCaller(7, Integer.MAX_VALUE, null))
+			throw new IllegalStateException("Generated code and reference do not match")
+
+		// results are consumed, so the calls cannot be eliminated
+		val Runnable generatedRun = [
+			var sum = 0
+			for (var i = 0; i < OPERATIONS; i++)
+				sum += obj.compute$priorityEnvelopeCaller(values.get(i % values.length), Integer.MAX_VALUE, null)
+			sink = sum
+		]
+		val Runnable referenceRun = [
+			var sum = 0
+			for (var i = 0; i < OPERATIONS; i++)
+				sum += reference.compute$priorityEnvelopeCaller(values.get(i % values.length), Integer.MAX_VALUE, null)
+			sink = sum
+		]
+
+		Benchmark.measureTime("generated (switch, int priority)", OPERATIONS, generatedRun)
+		Benchmark.measureTime("reference (if chain, boxed priority)", OPERATIONS, referenceRun)
+		Benchmark.measureAllocation("generated (switch, int priority)", OPERATIONS, generatedRun)
+		Benchmark.measureAllocation("reference (if chain, boxed priority)", OPERATIONS, referenceRun)
+
+	}
+
+}
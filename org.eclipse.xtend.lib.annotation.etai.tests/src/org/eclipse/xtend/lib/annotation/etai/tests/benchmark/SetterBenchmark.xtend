@@ -0,0 +1,85 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.benchmark
+
+import java.util.Random
+import org.eclipse.xtend.lib.annotation.etai.ApplyRules
+import org.eclipse.xtend.lib.annotation.etai.GetterRule
+import org.eclipse.xtend.lib.annotation.etai.SetterRule
+import org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils
+import org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.SynchronizationLock
+
+@ApplyRules
+class ClassForSetterBenchmark {
+
+	public int changes = 0
+
+	@GetterRule
+	@SetterRule(afterChange="%Changed")
+	int value
+
+	protected def void valueChanged(int oldValue, int newValue) {
+		changes++
+	}
+
+	/**
+	 * <p>Shape of the code, which has been generated before: the comparison, the assignment
+	 * and the call of the "after change" method are passed as callback objects, which are
+	 * created on each call.</p>
+	 */
+	def boolean setValueViaCallbacks(int newValue) {
+		return GetterSetterUtils.setValue(this.value, newValue, [this.value != newValue], [this.value = newValue],
+			null, [Integer oldValue, Integer changedValue|valueChanged(oldValue, changedValue)], "value", this, false,
+			null, null as SynchronizationLock)
+	}
+
+}
+
+/**
+ * <p>Measures the cost of calling a generated setter with an "after change" method (time and
+ * allocated memory per call). The generated code performs the change directly. As a reference,
+ * the change is performed via {@link GetterSetterUtils#setValue} with callback objects created
+ * on each call (shape of the code, which has been generated before).</p>
+ */
+class SetterBenchmark {
+
+	static val OPERATIONS = 10_000_000
+
+	public static var int sink
+
+	def static void main(String[] args) {
+
+		val obj = new ClassForSetterBenchmark
+		val reference = new ClassForSetterBenchmark
+		val random = new Random(42)
+		val int[] values = newIntArrayOfSize(1024)
+		for (var i = 0; i < values.length; i++)
+			values.set(i, random.nextInt(1000))
+
+		// results are consumed, so the calls cannot be eliminated
+		val Runnable generatedRun = [
+			var sum = 0
+			for (var i = 0; i < OPERATIONS; i++)
+				if (obj.setValue(values.get(i % values.length)))
+					sum++
+			sink = sum + obj.changes
+		]
+		val Runnable referenceRun = [
+			var sum = 0
+			for (var i = 0; i < OPERATIONS; i++)
+				if (reference.setValueViaCallbacks(values.get(i % values.length)))
+					sum++
+			sink = sum + reference.changes
+		]
+
+		generatedRun.run
+		referenceRun.run
+		if (obj.value != reference.value || obj.changes != reference.changes)
+			throw new IllegalStateException("Generated code and reference do not match")
+
+		Benchmark.measureTime("generated (direct change)", OPERATIONS, generatedRun)
+		Benchmark.measureTime("reference (callback objects)", OPERATIONS, referenceRun)
+		Benchmark.measureAllocation("generated (direct change)", OPERATIONS, generatedRun)
+		Benchmark.measureAllocation("reference (callback objects)", OPERATIONS, referenceRun)
+
+	}
+
+}
@@ -0,0 +1,92 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.benchmark
+
+import java.lang.invoke.MethodHandles
+import java.util.Random
+import org.eclipse.xtend.lib.annotation.etai.ExclusiveMethod
+import org.eclipse.xtend.lib.annotation.etai.ExtendedByAuto
+import org.eclipse.xtend.lib.annotation.etai.TraitClass
+import org.eclipse.xtend.lib.annotation.etai.tests.benchmark.intf.ITraitClassForSuperCallBenchmarkDerived
+import org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils
+
+@TraitClass
+abstract class TraitClassForSuperCallBenchmarkBase {
+
+	@ExclusiveMethod
+	override int compute(int x) {
+		return x + 1
+	}
+
+}
+
+@TraitClass
+abstract class TraitClassForSuperCallBenchmarkDerived extends TraitClassForSuperCallBenchmarkBase {
+
+	@ExclusiveMethod
+	override int compute(int x) {
+		return super.compute(x) * 2
+	}
+
+}
+
+@ExtendedByAuto
+class ClassForSuperCallBenchmark implements ITraitClassForSuperCallBenchmarkDerived {
+}
+
+/**
+ * <p>Measures the cost of a super call within a trait class hierarchy. The generated code redirects
+ * the super call via a method handle, which is resolved once per class. As a reference, the method
+ * handle is resolved for each call (shape of the code, which has been generated before).</p>
+ *
+ * <p>The reference cannot use the signature polymorphic <code>invoke</code> in Xtend, so it calls
+ * <code>invokeWithArguments</code> instead. The lookup dominates its cost anyway.</p>
+ */
+class SuperCallBenchmark {
+
+	static val OPERATIONS = 10_000_000
+	static val OPERATIONS_REFERENCE = 100_000
+
+	public static var int sink
+
+	def static void main(String[] args) {
+
+		val obj = new ClassForSuperCallBenchmark
+		val traitObject = ReflectUtils.getPrivateFieldValue(obj, "delegate$TraitClassForSuperCallBenchmarkDerived")
+		val random = new Random(42)
+		val int[] values = newIntArrayOfSize(1024)
+		for (var i = 0; i < values.length; i++)
+			values.set(i, random.nextInt(1000))
+
+		// results are consumed, so the calls cannot be eliminated
+		val Runnable generated = [
+			var sum = 0
+			for (var i = 0; i < OPERATIONS; i++)
+				sum += obj.compute(values.get(i % values.length))
+			sink = sum
+		]
+		val Runnable reference = [
+			var sum = 0
+			for (var i = 0; i < OPERATIONS_REFERENCE; i++)
+				sum += callViaResolvedMethodHandle(traitObject, values.get(i % values.length))
+			sink = sum
+		]
+
+		Benchmark.measureTime("generated (method handle resolved once)", OPERATIONS, generated)
+		Benchmark.measureTime("reference (method handle resolved per call)", OPERATIONS_REFERENCE, reference)
+		Benchmark.measureAllocation("generated (method handle resolved once)", OPERATIONS, generated)
+		Benchmark.measureAllocation("reference (method handle resolved per call)", OPERATIONS_REFERENCE, reference)
+
+	}
+
+	/**
+	 * <p>Shape of the code, which has been generated before method handles were stored in static fields.</p>
+	 */
+	static def int callViaResolvedMethodHandle(Object traitObject, int x) {
+
+		val clazz = TraitClassForSuperCallBenchmarkBase
+		val methodHandle = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup()).unreflectSpecial(
+			ReflectUtils.getPrivateMethodExactMatch(clazz, "compute$impl", #[int]), clazz)
+		return (methodHandle.invokeWithArguments(traitObject, x) as Integer) * 2
+
+	}
+
+}
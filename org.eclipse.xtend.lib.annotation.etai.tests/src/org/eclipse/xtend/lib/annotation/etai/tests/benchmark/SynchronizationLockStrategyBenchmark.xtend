@@ -0,0 +1,104 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.benchmark
+
+import java.util.ArrayList
+import java.util.List
+import java.util.concurrent.CountDownLatch
+import java.util.function.IntSupplier
+import java.util.function.IntConsumer
+import org.eclipse.xtend.lib.annotation.etai.ApplyRules
+import org.eclipse.xtend.lib.annotation.etai.GetterRule
+import org.eclipse.xtend.lib.annotation.etai.SetterRule
+import org.eclipse.xtend.lib.annotation.etai.SynchronizationLockStrategy
+import org.eclipse.xtend.lib.annotation.etai.SynchronizationRule
+
+@ApplyRules
+class ClassForSynchronizationLockStrategyBenchmark {
+
+	@GetterRule
+	@SetterRule
+	@SynchronizationRule("BenchmarkLockFair")
+	int valueFair
+
+	@GetterRule
+	@SetterRule
+	@SynchronizationRule(value="BenchmarkLockNonFair", strategy=SynchronizationLockStrategy.NON_FAIR)
+	int valueNonFair
+
+	@GetterRule
+	@SetterRule
+	@SynchronizationRule(value="BenchmarkLockOptimisticRead", strategy=SynchronizationLockStrategy.OPTIMISTIC_READ)
+	int valueOptimisticRead
+
+}
+
+/**
+ * <p>Compares the strategies of {@link SynchronizationLockStrategy} for a read-mostly field:
+ * 1, 4 and 16 threads call the getter, while one thread calls the setter from time to time.</p>
+ *
+ * <p>Other numbers of reading threads can be passed as arguments.</p>
+ */
+class SynchronizationLockStrategyBenchmark {
+
+	static val OPERATIONS = 1_000_000
+	static val READER_THREADS = #[1, 4, 16]
+	static val WRITE_EVERY = 1000
+
+	def static void main(String[] args) {
+
+		val obj = new ClassForSynchronizationLockStrategyBenchmark
+
+		val readerThreadCounts = if (args.length > 0) args.map[Integer.parseInt(it)] else READER_THREADS
+
+		for (readerThreads : readerThreadCounts) {
+
+			Benchmark.measureTime('''getter (FAIR, «readerThreads» readers)''', OPERATIONS * readerThreads, [
+				readMostly(readerThreads, [obj.valueFair], [obj.valueFair = it])
+			])
+			Benchmark.measureTime('''getter (NON_FAIR, «readerThreads» readers)''', OPERATIONS * readerThreads, [
+				readMostly(readerThreads, [obj.valueNonFair], [obj.valueNonFair = it])
+			])
+			Benchmark.measureTime('''getter (OPTIMISTIC_READ, «readerThreads» readers)''', OPERATIONS * readerThreads, [
+				readMostly(readerThreads, [obj.valueOptimisticRead], [obj.valueOptimisticRead = it])
+			])
+
+		}
+
+	}
+
+	/**
+	 * <p>Calls the given getter from the given number of threads, while the given setter is called by
+	 * another thread until all readers have finished.</p>
+	 */
+	static def void readMostly(int readerThreads, IntSupplier getter, IntConsumer setter) {
+
+		val finished = new CountDownLatch(readerThreads)
+		val List<Thread> threads = new ArrayList
+
+		for (var i = 0; i < readerThreads; i++)
+			threads.add(new Thread([
+				var sum = 0
+				for (var j = 0; j < OPERATIONS; j++)
+					sum += getter.asInt
+				if (sum == Integer.MIN_VALUE)
+					System.out.println(sum)
+				finished.countDown
+			]))
+
+		threads.add(new Thread([
+			var j = 0
+			while (finished.count > 0) {
+				setter.accept(j)
+				j += 1
+				for (var k = 0; k < WRITE_EVERY && finished.count > 0; k++)
+					Thread.onSpinWait
+			}
+		]))
+
+		for (thread : threads)
+			thread.start
+		for (thread : threads)
+			thread.join
+
+	}
+
+}
@@ -169,6 +169,43 @@ class ExtendedClassWithConstructorUsingSimple1Derived extends ExtendedClassWithC
 
 }
 
+@ApplyRules
+@ExtendedByAuto
+@ConstructRuleAuto
+@FactoryMethodRule(initMethod="init", checkConstruction=false)
+class ExtendedClassConstructNoChecks implements ITraitClassWithConstructorSimple1, ITraitClassWithConstructorSimple2 {
+
+	int z
+	boolean initialized = false
+
+	new(int z) {
+		this.z = z
+	}
+
+	def void init() {
+		initialized = true
+	}
+
+	def int getZ() {
+		z
+	}
+
+	def boolean isInitialized() {
+		initialized
+	}
+
+}
+
+@ApplyRules
+@ConstructRuleDisable(TraitClassWithConstructorSimple2)
+class ExtendedClassConstructNoChecksWithoutManualConstruction extends ExtendedClassConstructNoChecks {
+
+	new(int z) {
+		super(z)
+	}
+
+}
+
 class TraitsConstructDisableTests extends TraitTestsBase {
 
 	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
@@ -246,6 +283,28 @@ class TraitsConstructDisableTests extends TraitTestsBase {
 
 	}
 
+	@Test
+	def void testTraitClassAutoConstructNoChecks() {
+
+		val obj1 = ExtendedClassConstructNoChecks.createExtendedClassConstructNoChecks(1, 2, 3)
+		assertEquals(1, obj1.z)
+		assertEquals(2, obj1.w)
+		assertEquals(3, obj1.x)
+		assertTrue(obj1.initialized)
+
+		// no checks, so construction without factory method or missing trait class objects are not detected
+		val obj2 = new ExtendedClassConstructNoChecks(4)
+		assertEquals(4, obj2.z)
+		assertFalse(obj2.initialized)
+
+		val obj3 = ExtendedClassConstructNoChecksWithoutManualConstruction.
+			createExtendedClassConstructNoChecksWithoutManualConstruction(5, 6)
+		assertEquals(5, obj3.z)
+		assertEquals(6, obj3.w)
+		assertTrue(obj3.initialized)
+
+	}
+
 	@Test
 	def void testAutoConstructContext() {
 
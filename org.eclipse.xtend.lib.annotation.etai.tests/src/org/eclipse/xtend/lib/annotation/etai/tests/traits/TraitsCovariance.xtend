@@ -33,6 +33,7 @@ import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.IExtendedClassTyp
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassTypeA
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassTypeB
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassTypeBNotDerived
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassTypeArrayConversion
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassTypeGeneric
 import org.junit.Test
 
@@ -603,6 +604,47 @@ class ExtendedClassTypeBGenericHaveA implements ITraitClassTypeGeneric<TypeB> {
 
 }
 
+class TypeCombinatorTraitResult implements TraitMethodProcessor {
+
+	override call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+		expressionExtendedClass?.eval()
+		return expressionTraitClass.eval()
+	}
+
+}
+
+@TraitClassAutoUsing
+abstract class TraitClassTypeArrayConversion {
+
+	TypeB[] arrayB = #[new TypeB]
+
+	@ProcessedMethod(processor=TypeCombinatorTraitResult)
+	override TypeA[] methodArrayConversion() {
+		val TypeA[] result = newArrayOfSize(1)
+		result.set(0, new TypeB)
+		return result
+	}
+
+	@ProcessedMethod(processor=TypeCombinatorTraitResult)
+	override TypeA[] methodArrayNoConversion() {
+		return arrayB
+	}
+
+}
+
+@ExtendedByAuto
+class ExtendedClassTypeArrayConversion implements ITraitClassTypeArrayConversion {
+
+	override TypeB[] methodArrayConversion() {
+		return #[]
+	}
+
+	override TypeB[] methodArrayNoConversion() {
+		return #[]
+	}
+
+}
+
 class TraitsCovarianceTests extends TraitTestsBase {
 
 	@Test
@@ -977,4 +1019,19 @@ class TraitsCovarianceTests extends TraitTestsBase {
 
 	}
 
+	@Test
+	def void testCovarianceArrayConversion() {
+
+		val obj = new ExtendedClassTypeArrayConversion
+
+		// array of trait class is converted
+		val arrayConverted = obj.methodArrayConversion
+		assertSame(typeof(TypeB[]), (arrayConverted as Object).class)
+		assertEquals(1, arrayConverted.length)
+
+		// array of trait class is not copied if type matches already
+		assertSame(obj.methodArrayNoConversion, obj.methodArrayNoConversion)
+
+	}
+
 }
@@ -11,6 +11,9 @@ import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassWithIn
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassWithInheritanceSuperCallTestDerived
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassWithInheritanceSuperCallTestWithGenericsDerived
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassWithInheritanceWrapCallTestDerived
+import org.eclipse.xtend.lib.annotation.etai.TraitClassProcessor
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassWithInheritanceSuperCallChainLevel3
+import java.io.IOException
 import org.junit.Test
 
 import static org.junit.Assert.*
@@ -315,6 +318,87 @@ class ExtendedClassWithInheritanceSuperCallWithGenericsTest implements ITraitCla
 
 }
 
+@TraitClass
+abstract class TraitClassWithInheritanceSuperCallChainLevel1 {
+
+	@ProcessedMethod(processor=EPVoidPost)
+	override void methodChain(int x) {
+		TraitTestsBase::TEST_BUFFER += "L1:" + x
+	}
+
+	@ExclusiveMethod
+	override String methodOverloaded(int x) {
+		return "L1int" + x
+	}
+
+	@ExclusiveMethod
+	override String methodOverloaded(String x) {
+		return "L1String" + x
+	}
+
+	@ExclusiveMethod
+	override void methodThrowing(int x) throws IOException {
+		throw new IOException("L1:" + x)
+	}
+
+}
+
+@TraitClass
+abstract class TraitClassWithInheritanceSuperCallChainLevel2 extends TraitClassWithInheritanceSuperCallChainLevel1 {
+
+	@ProcessedMethod(processor=EPVoidPost)
+	override void methodChain(int x) {
+		TraitTestsBase::TEST_BUFFER += "L2:" + x + ","
+		super.methodChain(x + 1)
+	}
+
+	@ExclusiveMethod
+	override String methodOverloaded(int x) {
+		return "L2" + super.methodOverloaded(x + 1)
+	}
+
+	@ExclusiveMethod
+	override void methodThrowing(int x) throws IOException {
+		super.methodThrowing(x + 1)
+	}
+
+}
+
+@TraitClass
+abstract class TraitClassWithInheritanceSuperCallChainLevel3 extends TraitClassWithInheritanceSuperCallChainLevel2 {
+
+	@ProcessedMethod(processor=EPVoidPost)
+	override void methodChain(int x) {
+		TraitTestsBase::TEST_BUFFER += "L3:" + x + ","
+		super.methodChain(x + 1)
+	}
+
+	@ExclusiveMethod
+	override String methodOverloaded(int x) {
+		return "L3" + super.methodOverloaded(x + 1)
+	}
+
+	@ExclusiveMethod
+	override String methodOverloaded(String x) {
+		return "L3" + super.methodOverloaded(x + "!")
+	}
+
+	@ExclusiveMethod
+	override void methodThrowing(int x) throws IOException {
+		super.methodThrowing(x + 1)
+	}
+
+}
+
+@ExtendedByAuto
+class ExtendedClassWithInheritanceSuperCallChain implements ITraitClassWithInheritanceSuperCallChainLevel3 {
+
+	override void methodChain(int x) {
+		TraitTestsBase::TEST_BUFFER += "E:" + x + ","
+	}
+
+}
+
 class TraitsInheritanceTests extends TraitTestsBase {
 
 	@Test
@@ -390,6 +474,49 @@ class TraitsInheritanceTests extends TraitTestsBase {
 
 	}
 
+	@Test
+	def void testSuperCallChainInTraitClassTest() {
+
+		val obj = new ExtendedClassWithInheritanceSuperCallChain
+
+		// each level must call the implementation of its super class (no virtual dispatch)
+		TraitTestsBase::TEST_BUFFER = ""
+		obj.methodChain(1)
+		assertEquals("E:1,L3:1,L2:2,L1:3", TraitTestsBase::TEST_BUFFER)
+
+		TraitTestsBase::TEST_BUFFER = ""
+		obj.methodChain(5)
+		assertEquals("E:5,L3:5,L2:6,L1:7", TraitTestsBase::TEST_BUFFER)
+
+		// overloaded methods must be resolved by their exact parameter types
+		assertEquals("L3L2L1int3", obj.methodOverloaded(1))
+		assertEquals("L3L1Stringx!", obj.methodOverloaded("x"))
+
+		// (checked) exceptions are passed through all levels
+		try {
+			obj.methodThrowing(1)
+			fail("IOException expected")
+		} catch (IOException exception) {
+			assertEquals("L1:3", exception.message)
+		}
+
+		// method handles of all levels are resolved when the classes are initialized
+		for (clazz : #[TraitClassWithInheritanceSuperCallChainLevel1, TraitClassWithInheritanceSuperCallChainLevel2,
+			TraitClassWithInheritanceSuperCallChainLevel3]) {
+
+			val methodHandleFields = clazz.declaredFields.filter [
+				name.startsWith(TraitClassProcessor.SUPER_CALL_METHOD_HANDLE_FIELD_NAME_PREFIX)
+			]
+			assertFalse(methodHandleFields.empty)
+			for (methodHandleField : methodHandleFields) {
+				methodHandleField.accessible = true
+				assertNotNull(methodHandleField.get(null))
+			}
+
+		}
+
+	}
+
 	@Test
 	def void testSuperCallWithGenericsInTraitClassTest() {
 
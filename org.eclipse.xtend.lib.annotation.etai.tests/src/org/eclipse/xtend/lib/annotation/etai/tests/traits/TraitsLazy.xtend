@@ -0,0 +1,211 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.traits
+
+import java.lang.reflect.Modifier
+import java.util.ArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import org.eclipse.xtend.core.compiler.batch.XtendCompilerTester
+import org.eclipse.xtend.lib.annotation.etai.ConstructorMethod
+import org.eclipse.xtend.lib.annotation.etai.EPVoidPost
+import org.eclipse.xtend.lib.annotation.etai.ExclusiveMethod
+import org.eclipse.xtend.lib.annotation.etai.ExtendedByAuto
+import org.eclipse.xtend.lib.annotation.etai.ProcessedMethod
+import org.eclipse.xtend.lib.annotation.etai.TraitClassAutoUsing
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassLazy
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassLazyThreadSafe
+import org.eclipse.xtend.lib.macro.declaration.ClassDeclaration
+import org.eclipse.xtend.lib.macro.services.Problem.Severity
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+@TraitClassAutoUsing(lazy=true)
+abstract class TraitClassLazy {
+
+	int counter = 0
+
+	@ConstructorMethod
+	protected def void construct() {
+		TraitTestsBase::TEST_BUFFER += "C"
+	}
+
+	@ExclusiveMethod
+	override int increment() {
+		counter += 1
+		return counter
+	}
+
+	@ProcessedMethod(processor=EPVoidPost)
+	override void log() {
+		TraitTestsBase::TEST_BUFFER += "T"
+	}
+
+}
+
+@TraitClassAutoUsing(lazy=true, lazyThreadSafe=true)
+abstract class TraitClassLazyThreadSafe {
+
+	public static val CONSTRUCTIONS = new AtomicInteger
+
+	int counter = 0
+
+	@ConstructorMethod
+	protected def void construct() {
+		CONSTRUCTIONS.incrementAndGet
+	}
+
+	@ExclusiveMethod
+	override int incrementThreadSafe() {
+		counter += 1
+		return counter
+	}
+
+}
+
+@ExtendedByAuto
+class ExtendedClassLazy implements ITraitClassLazy, ITraitClassLazyThreadSafe {
+
+	override void log() {
+		TraitTestsBase::TEST_BUFFER += "E"
+	}
+
+}
+
+class TraitsLazyTests extends TraitTestsBase {
+
+	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
+
+	@Test
+	def void testLazyConstruction() {
+
+		TEST_BUFFER = ""
+		val obj = new ExtendedClassLazy
+		assertEquals("", TEST_BUFFER)
+
+		obj.log
+		assertEquals("ECT", TEST_BUFFER)
+
+		assertEquals(1, obj.increment)
+		assertEquals(2, obj.increment)
+		assertEquals("ECT", TEST_BUFFER)
+
+		assertEquals(1, obj.incrementThreadSafe)
+		assertEquals(2, obj.incrementThreadSafe)
+
+	}
+
+	@Test
+	def void testLazyThreadSafe() {
+
+		assertFalse(Modifier.isVolatile(ExtendedClassLazy.getDeclaredField("delegate$TraitClassLazy").modifiers))
+		assertTrue(
+			Modifier.isVolatile(ExtendedClassLazy.getDeclaredField("delegate$TraitClassLazyThreadSafe").modifiers))
+
+		val lock = ExtendedClassLazy.getDeclaredField("lazy$lock$TraitClassLazyThreadSafe")
+		assertTrue(Modifier.isPrivate(lock.modifiers))
+		assertTrue(Modifier.isFinal(lock.modifiers))
+
+	}
+
+	@Test
+	def void testLazyThreadSafeConcurrentFirstAccess() {
+
+		val threadCount = 16
+		val rounds = 100
+
+		TraitClassLazyThreadSafe.CONSTRUCTIONS.set(0)
+
+		for (round : 0 ..< rounds) {
+
+			val obj = new ExtendedClassLazy
+			val start = new CountDownLatch(1)
+			val threads = new ArrayList<Thread>
+			for (i : 0 ..< threadCount) {
+				val thread = new Thread([
+					start.await
+					obj.incrementThreadSafe
+				])
+				threads.add(thread)
+				thread.start
+			}
+
+			start.countDown
+			for (thread : threads)
+				thread.join
+
+			// exactly one delegation object must have been constructed per extended object
+			assertEquals(round + 1, TraitClassLazyThreadSafe.CONSTRUCTIONS.get)
+
+		}
+
+		// synchronization on the extended object by other code must not block the construction
+		val obj = new ExtendedClassLazy
+		val constructed = new CountDownLatch(1)
+		synchronized (obj) {
+			new Thread([
+				obj.incrementThreadSafe
+				constructed.countDown
+			]).start
+			assertTrue(constructed.await(10, TimeUnit.SECONDS))
+		}
+		assertEquals(rounds + 1, TraitClassLazyThreadSafe.CONSTRUCTIONS.get)
+
+	}
+
+	@Test
+	def void testLazyConstructionNotPossible() {
+
+		'''
+
+package virtual
+
+import org.eclipse.xtend.lib.annotation.etai.ConstructorMethod
+import org.eclipse.xtend.lib.annotation.etai.ExclusiveMethod
+import org.eclipse.xtend.lib.annotation.etai.TraitClassAutoUsing
+
+@TraitClassAutoUsing(lazy=true)
+abstract class TraitClassLazyWithArguments {
+
+	@ConstructorMethod
+	protected def void construct(int a) {}
+
+	@ExclusiveMethod
+	override void method() {}
+
+}
+
+@TraitClassAutoUsing(lazyThreadSafe=true)
+abstract class TraitClassThreadSafeNotLazy {
+
+	@ExclusiveMethod
+	override void method() {}
+
+}
+
+		'''.compile [
+
+			val extension ctx = transformationContext
+
+			val clazz1 = findClass("virtual.TraitClassLazyWithArguments")
+			val clazz2 = findClass("virtual.TraitClassThreadSafeNotLazy")
+
+			val problemsClass1 = (clazz1.primarySourceElement as ClassDeclaration).problems
+			val problemsClass2 = (clazz2.primarySourceElement as ClassDeclaration).problems
+
+			// do assertions
+			assertEquals(1, problemsClass1.size)
+			assertEquals(Severity.ERROR, problemsClass1.get(0).severity)
+			assertTrue(problemsClass1.get(0).message.contains("cannot be constructed lazily"))
+
+			assertEquals(1, problemsClass2.size)
+			assertEquals(Severity.ERROR, problemsClass2.get(0).severity)
+			assertTrue(problemsClass2.get(0).message.contains("requires lazy construction"))
+
+			assertEquals(2, allProblems.size)
+
+		]
+
+	}
+
+}
@@ -26,6 +26,10 @@ import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitProcessedMe
 import org.eclipse.xtend.lib.macro.declaration.ClassDeclaration
 import org.eclipse.xtend.lib.macro.declaration.MethodDeclaration
 import org.eclipse.xtend.lib.macro.services.Problem.Severity
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitPriorityEnvelopeGapPrio1
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitPriorityEnvelopeGapPrio2
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitPriorityEnvelopeGapPrio1000000
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitPriorityEnvelopeGapPrio2147483646
 import org.junit.Test
 
 import static org.junit.Assert.*
@@ -713,6 +717,61 @@ class ExtendedClassPriorityEnvelopeMethodInteractionWithProcessed6 extends Exten
 class ExtendedClassPriorityEnvelopeMethodInteractionWithProcessedCovariance extends ExtendedClassPriorityEnvelopeMethodInteractionWithPreImplementation implements ITraitProcessedMethodInteractingWithPriorityEnvelopeMethod3 {
 }
 
+@TraitClass
+abstract class TraitPriorityEnvelopeGapPrio1 {
+
+	@PriorityEnvelopeMethod(1)
+	override String methodGap(String value) {
+		return methodGap$extended(value + "P1,")
+	}
+
+}
+
+@TraitClass
+abstract class TraitPriorityEnvelopeGapPrio2 {
+
+	@PriorityEnvelopeMethod(2)
+	override String methodGap(String value) {
+		return methodGap$extended(value + "P2,")
+	}
+
+}
+
+@TraitClass
+abstract class TraitPriorityEnvelopeGapPrio1000000 {
+
+	@PriorityEnvelopeMethod(1000000)
+	override String methodGap(String value) {
+		return methodGap$extended(value + "P1000000,")
+	}
+
+}
+
+@TraitClass
+abstract class TraitPriorityEnvelopeGapPrio2147483646 {
+
+	@PriorityEnvelopeMethod(2147483646)
+	override String methodGap(String value) {
+		return methodGap$extended(value + "P2147483646,")
+	}
+
+}
+
+@ExtendedByAuto
+@ApplyRules
+class ExtendedByPriorityGaps implements ITraitPriorityEnvelopeGapPrio1, ITraitPriorityEnvelopeGapPrio1000000, ITraitPriorityEnvelopeGapPrio2147483646 {
+
+	override String methodGap(String value) {
+		return value + "E"
+	}
+
+}
+
+@ExtendedByAuto
+@ApplyRules
+class ExtendedByPriorityGapsDerived extends ExtendedByPriorityGaps implements ITraitPriorityEnvelopeGapPrio2 {
+}
+
 class TraitsPriorityEnvelopeTests extends TraitTestsBase {
 
 	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
@@ -1168,6 +1227,94 @@ class TraitsPriorityEnvelopeTests extends TraitTestsBase {
 
 	}
 
+	@Test
+	def void testPriorityEnvelopeGaps() {
+
+		assertEquals("P2147483646,P1000000,P1,E", new ExtendedByPriorityGaps().methodGap(""))
+		assertEquals("P2147483646,P1000000,P2,P1,E", new ExtendedByPriorityGapsDerived().methodGap(""))
+
+		// envelope methods of the base class must also reach the inserted envelope method
+		val ExtendedByPriorityGaps obj = new ExtendedByPriorityGapsDerived
+		assertEquals("xP2147483646,P1000000,P2,P1,E", obj.methodGap("x"))
+
+	}
+
+	@Test
+	def void testPriorityEnvelopeEqualPriorities() {
+
+		'''
+
+package virtual
+
+import org.eclipse.xtend.lib.annotation.etai.ApplyRules
+import org.eclipse.xtend.lib.annotation.etai.ExtendedByAuto
+import org.eclipse.xtend.lib.annotation.etai.PriorityEnvelopeMethod
+import org.eclipse.xtend.lib.annotation.etai.TraitClass
+import virtual.intf.ITraitPriorityEnvelopeA
+import virtual.intf.ITraitPriorityEnvelopeB
+
+@TraitClass
+abstract class TraitPriorityEnvelopeA {
+
+	@PriorityEnvelopeMethod(100)
+	override void methodVoid() {
+	}
+
+}
+
+@TraitClass
+abstract class TraitPriorityEnvelopeB {
+
+	@PriorityEnvelopeMethod(100)
+	override void methodVoid() {
+	}
+
+}
+
+@ExtendedByAuto
+@ApplyRules
+class ExtendedByPriorityEnvelopeBoth implements ITraitPriorityEnvelopeA, ITraitPriorityEnvelopeB {
+
+	override void methodVoid() {
+	}
+
+}
+
+@ExtendedByAuto
+@ApplyRules
+class ExtendedByPriorityEnvelopeBase implements ITraitPriorityEnvelopeA {
+
+	override void methodVoid() {
+	}
+
+}
+
+@ExtendedByAuto
+@ApplyRules
+class ExtendedByPriorityEnvelopeDerived extends ExtendedByPriorityEnvelopeBase implements ITraitPriorityEnvelopeB {
+}
+
+		'''.compile [
+
+			val extension ctx = transformationContext
+
+			for (className : #["virtual.ExtendedByPriorityEnvelopeBoth", "virtual.ExtendedByPriorityEnvelopeDerived"]) {
+
+				val problemsClass = (findClass(className).primarySourceElement as ClassDeclaration).problems
+
+				// do assertions
+				assertEquals(1, problemsClass.size)
+				assertEquals(Severity.ERROR, problemsClass.get(0).severity)
+				assertTrue(problemsClass.get(0).message.contains("Method with priority 100 is already contained"))
+
+			}
+
+			assertEquals(2, allProblems.size)
+
+		]
+
+	}
+
 	@Test
 	def void testPriorityEnvelopeNoApplyRules() {
 
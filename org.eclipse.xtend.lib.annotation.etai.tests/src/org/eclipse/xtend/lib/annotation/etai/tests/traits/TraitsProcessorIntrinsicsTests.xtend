@@ -0,0 +1,198 @@
+package org.eclipse.xtend.lib.annotation.etai.tests.traits
+
+import java.io.BufferedReader
+import java.io.InputStreamReader
+import java.lang.reflect.InvocationTargetException
+import java.nio.file.Paths
+import java.util.ArrayList
+import java.util.List
+import java.util.stream.Collectors
+import org.eclipse.xtend.core.compiler.batch.XtendCompilerTester
+import org.eclipse.xtend.lib.annotation.etai.EPBooleanPostAnd
+import org.eclipse.xtend.lib.annotation.etai.EPBooleanPostOr
+import org.eclipse.xtend.lib.annotation.etai.EPBooleanPreAnd
+import org.eclipse.xtend.lib.annotation.etai.EPBooleanPreOr
+import org.eclipse.xtend.lib.annotation.etai.EPDefault
+import org.eclipse.xtend.lib.annotation.etai.EPExtendedResultPost
+import org.eclipse.xtend.lib.annotation.etai.EPExtendedResultPre
+import org.eclipse.xtend.lib.annotation.etai.EPFirstNotNullPost
+import org.eclipse.xtend.lib.annotation.etai.EPFirstNotNullPre
+import org.eclipse.xtend.lib.annotation.etai.EPOverride
+import org.eclipse.xtend.lib.annotation.etai.EPTraitClassResultPost
+import org.eclipse.xtend.lib.annotation.etai.EPTraitClassResultPre
+import org.eclipse.xtend.lib.annotation.etai.EPVoidFinally
+import org.eclipse.xtend.lib.annotation.etai.EPVoidPost
+import org.eclipse.xtend.lib.annotation.etai.EPVoidPre
+import org.eclipse.xtend.lib.annotation.etai.ExtendedByProcessor
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class TraitsProcessorIntrinsicsTests extends TraitTestsBase {
+
+	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
+
+	static val RESULT_PREFIX = "result: "
+
+	static val PROCESSORS = #[EPDefault, EPOverride, EPVoidPre, EPVoidPost, EPVoidFinally, EPBooleanPreAnd,
+		EPBooleanPostAnd, EPBooleanPreOr, EPBooleanPostOr, EPFirstNotNullPre, EPFirstNotNullPost, EPExtendedResultPre,
+		EPExtendedResultPost, EPTraitClassResultPre, EPTraitClassResultPost]
+
+	// return types and the results, which are returned by the methods in trait class and extended class
+	static val RETURN_TYPES = #["void", "String", "int", "boolean", "Boolean"]
+	static val RESULTS = #{
+		"void" -> #[null],
+		"String" -> #["t", "e", null],
+		"int" -> #[1, 2],
+		"boolean" -> #[true, false],
+		"Boolean" -> #[true, false, null]
+	}
+
+	static def String getMethodName(Class<?> processor, String returnType) {
+		return "method" + processor.simpleName + if (returnType == "Boolean") "BooleanObject" else returnType.toFirstUpper
+	}
+
+	static def String getCastType(String returnType) {
+		return switch (returnType) { case "int": "Integer" case "boolean": "Boolean" default: returnType }
+	}
+
+	/**
+	 * <p>Compiles trait classes using all built-in processors for all return types, calls all methods
+	 * with all possible results (also throwing an exception in the extended class) and returns
+	 * a description of each call (result and call order).</p>
+	 */
+	def List<String> compileAndRun() {
+
+		val results = new ArrayList<String>
+
+		'''
+
+package virtual
+
+import org.eclipse.xtend.lib.annotation.etai.ExtendedByAuto
+import org.eclipse.xtend.lib.annotation.etai.ProcessedMethod
+import org.eclipse.xtend.lib.annotation.etai.TraitClassAutoUsing
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.TraitTestsBase
+
+import virtual.intf.ITraitClassIntrinsics
+
+@TraitClassAutoUsing
+abstract class TraitClassIntrinsics {
+
+	«FOR processor : PROCESSORS»
+		«FOR returnType : RETURN_TYPES»
+			@ProcessedMethod(processor=«processor.canonicalName»)
+			override «returnType» «getMethodName(processor, returnType)»(Object resultTraitClass, Object resultExtendedClass, boolean throwException) {
+				TraitTestsBase::TEST_BUFFER += "T"
+				«IF returnType != "void"»return resultTraitClass as «returnType.castType»«ENDIF»
+			}
+
+		«ENDFOR»
+	«ENDFOR»
+}
+
+@ExtendedByAuto
+class ExtendedClassIntrinsicsWithMethods implements ITraitClassIntrinsics {
+
+	«FOR processor : PROCESSORS»
+		«FOR returnType : RETURN_TYPES»
+			override «returnType» «getMethodName(processor, returnType)»(Object resultTraitClass, Object resultExtendedClass, boolean throwException) {
+				TraitTestsBase::TEST_BUFFER += "E"
+				if (throwException)
+					throw new IllegalStateException
+				«IF returnType != "void"»return resultExtendedClass as «returnType.castType»«ENDIF»
+			}
+
+		«ENDFOR»
+	«ENDFOR»
+}
+
+@ExtendedByAuto
+class ExtendedClassIntrinsicsWithoutMethods implements ITraitClassIntrinsics {
+}
+
+		'''.compile [
+
+			assertEquals(0, allProblems.size)
+
+			for (className : #["virtual.ExtendedClassIntrinsicsWithMethods",
+				"virtual.ExtendedClassIntrinsicsWithoutMethods"]) {
+
+				val clazz = getCompiledClass(className)
+				val obj = clazz.getConstructor().newInstance
+
+				for (processor : PROCESSORS) {
+					for (returnType : RETURN_TYPES) {
+
+						val method = clazz.getMethod(getMethodName(processor, returnType), Object, Object,
+							boolean)
+
+						for (resultTraitClass : RESULTS.get(returnType))
+							for (resultExtendedClass : RESULTS.get(returnType))
+								for (throwException : #[false, true]) {
+
+									TEST_BUFFER = ""
+									var String result
+									try {
+										result = "result=" +
+											method.invoke(obj, resultTraitClass, resultExtendedClass,
+												throwException)
+									} catch (InvocationTargetException exception) {
+										result = "exception=" + exception.targetException.class.simpleName
+									}
+
+									results.add(
+										'''«className».«method.name»(«resultTraitClass», «resultExtendedClass», «throwException»): «result», calls=«TEST_BUFFER»''')
+
+								}
+
+					}
+				}
+
+			}
+
+		]
+
+		return results
+
+	}
+
+	/**
+	 * <p>Runs {@link #compileAndRun} in a separate JVM, in which the built-in trait method processors
+	 * are not generated directly (the according flag is read once, so it cannot be changed in this JVM).</p>
+	 */
+	def List<String> compileAndRunWithoutIntrinsics() {
+
+		val process = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString, "-ea",
+			'''-D«ExtendedByProcessor.DISABLE_PROCESSOR_INTRINSICS_PROPERTY»=true'''.toString, "-cp",
+			System.getProperty("java.class.path"), TraitsProcessorIntrinsicsTests.name).redirectErrorStream(true).start
+		val output = new BufferedReader(new InputStreamReader(process.inputStream)).lines.collect(Collectors.toList)
+		assertEquals(output.join("\n"), 0, process.waitFor)
+
+		return output.filter[startsWith(RESULT_PREFIX)].map[substring(RESULT_PREFIX.length)].toList
+
+	}
+
+	def static void main(String[] args) {
+
+		for (result : new TraitsProcessorIntrinsicsTests().compileAndRun)
+			System.out.println(RESULT_PREFIX + result)
+
+	}
+
+	@Test
+	def void testProcessorIntrinsicsEquivalence() {
+
+		assertTrue(ExtendedByProcessor.ENABLE_PROCESSOR_INTRINSICS)
+
+		val resultsWithIntrinsics = compileAndRun
+		val resultsWithoutIntrinsics = compileAndRunWithoutIntrinsics
+
+		assertTrue(resultsWithIntrinsics.size > 0)
+		assertEquals(resultsWithoutIntrinsics.size, resultsWithIntrinsics.size)
+		for (i : 0 ..< resultsWithIntrinsics.size)
+			assertEquals(resultsWithoutIntrinsics.get(i), resultsWithIntrinsics.get(i))
+
+	}
+
+}
@@ -1,5 +1,6 @@
 package org.eclipse.xtend.lib.annotation.etai.tests.traits
 
+import org.eclipse.xtend.lib.annotation.etai.ExclusiveMethod
 import org.eclipse.xtend.lib.annotation.etai.ExtendedByAuto
 import org.eclipse.xtend.lib.annotation.etai.LazyEvaluation
 import org.eclipse.xtend.lib.annotation.etai.ProcessedMethod
@@ -12,6 +13,21 @@ import static org.junit.Assert.*
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassAnalyzingProcessor
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassAnalyzingProcessorDark
 import org.eclipse.xtend.lib.annotation.etai.TraitMethodRedirection
+import org.eclipse.xtend.lib.annotation.etai.StatelessProcessor
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassStatelessProcessor
+import org.eclipse.xtend.lib.annotation.etai.IntLazyEvaluation
+import org.eclipse.xtend.lib.annotation.etai.IntTraitMethodProcessor
+import org.eclipse.xtend.lib.annotation.etai.IntLazyEvaluationAdapter
+import org.eclipse.xtend.lib.annotation.etai.BooleanLazyEvaluation
+import org.eclipse.xtend.lib.annotation.etai.BooleanLazyEvaluationAdapter
+import org.eclipse.xtend.lib.annotation.etai.BooleanTraitMethodProcessor
+import org.eclipse.xtend.lib.annotation.etai.LazyEvaluationAbstract
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassPrimitiveProcessorSelection
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassPrimitiveProcessor
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassCapturedArguments
+import org.eclipse.xtend.core.compiler.batch.XtendCompilerTester
+import org.eclipse.xtend.lib.macro.declaration.MethodDeclaration
+import org.eclipse.xtend.lib.macro.services.Problem.Severity
 
 class ReturnZeroIfNotInExtendedProcessor implements TraitMethodProcessor {
 
@@ -170,8 +186,243 @@ class ExtendedClassAnalyzingProcessorDark implements ITraitClassAnalyzingProcess
 
 }
 
+@StatelessProcessor
+class CountInstancesStatelessProcessor implements TraitMethodProcessor {
+
+	public static int INSTANCE_COUNTER = 0
+
+	new() {
+		INSTANCE_COUNTER++
+	}
+
+	override call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+		return expressionTraitClass.eval()
+	}
+
+}
+
+class CountInstancesStatefulProcessor implements TraitMethodProcessor {
+
+	public static int INSTANCE_COUNTER = 0
+
+	new() {
+		INSTANCE_COUNTER++
+	}
+
+	override call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+		return expressionTraitClass.eval()
+	}
+
+}
+
+@TraitClassAutoUsing
+abstract class TraitClassStatelessProcessor {
+
+	@ProcessedMethod(processor=CountInstancesStatelessProcessor)
+	override int methodStateless() {
+		return 1
+	}
+
+	@ProcessedMethod(processor=CountInstancesStatelessProcessor)
+	override int methodStatelessOther() {
+		return 2
+	}
+
+	@ProcessedMethod(processor=CountInstancesStatefulProcessor)
+	override int methodStateful() {
+		return 3
+	}
+
+}
+
+@ExtendedByAuto
+class ExtendedClassStatelessProcessor implements ITraitClassStatelessProcessor {
+}
+
+class IntSumProcessor implements IntTraitMethodProcessor {
+
+	override int callInt(IntLazyEvaluation expressionTraitClass, IntLazyEvaluation expressionExtendedClass) {
+
+		if (expressionExtendedClass === null)
+			return expressionTraitClass.evalInt
+
+		if (expressionTraitClass.numberOfArguments > 0)
+			expressionTraitClass.setArgument(0, (expressionTraitClass.getArgument(0) as Integer) + 1)
+		return expressionTraitClass.evalInt + expressionExtendedClass.evalInt
+
+	}
+
+}
+
+@TraitClassAutoUsing
+abstract class TraitClassPrimitiveProcessor {
+
+	@ProcessedMethod(processor=IntSumProcessor)
+	override int methodSum(int x) {
+		return x
+	}
+
+	@ProcessedMethod(processor=IntSumProcessor)
+	override int methodSumNotInExtended() {
+		return 5
+	}
+
+}
+
+@ExtendedByAuto
+class ExtendedClassPrimitiveProcessor implements ITraitClassPrimitiveProcessor {
+
+	override int methodSum(int x) {
+		return 2 * x
+	}
+
+}
+
+class IntOrBooleanProcessor implements IntTraitMethodProcessor, BooleanTraitMethodProcessor {
+
+	override int callInt(IntLazyEvaluation expressionTraitClass, IntLazyEvaluation expressionExtendedClass) {
+		return expressionTraitClass.evalInt + (if(expressionExtendedClass !== null) expressionExtendedClass.evalInt else 0)
+	}
+
+	override boolean callBoolean(BooleanLazyEvaluation expressionTraitClass,
+		BooleanLazyEvaluation expressionExtendedClass) {
+		return expressionTraitClass.evalBoolean || (expressionExtendedClass !== null && expressionExtendedClass.evalBoolean)
+	}
+
+	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+		throw new UnsupportedOperationException
+	}
+
+}
+
+class DetectSpecializationProcessor implements TraitMethodProcessor {
+
+	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+
+		if (expressionTraitClass instanceof IntLazyEvaluation && expressionExtendedClass instanceof IntLazyEvaluation)
+			return (expressionTraitClass as IntLazyEvaluation).evalInt +
+				(expressionExtendedClass as IntLazyEvaluation).evalInt
+		return -1
+
+	}
+
+}
+
+@TraitClassAutoUsing
+abstract class TraitClassPrimitiveProcessorSelection {
+
+	@ProcessedMethod(processor=IntOrBooleanProcessor)
+	override int methodIntOrBooleanInt() {
+		return 2
+	}
+
+	@ProcessedMethod(processor=IntOrBooleanProcessor)
+	override boolean methodIntOrBooleanBoolean() {
+		return false
+	}
+
+	@ProcessedMethod(processor=DetectSpecializationProcessor)
+	override int methodDetectSpecialization() {
+		return 4
+	}
+
+}
+
+@ExtendedByAuto
+class ExtendedClassPrimitiveProcessorSelection implements ITraitClassPrimitiveProcessorSelection {
+
+	override int methodIntOrBooleanInt() {
+		return 3
+	}
+
+	override boolean methodIntOrBooleanBoolean() {
+		return true
+	}
+
+	override int methodDetectSpecialization() {
+		return 5
+	}
+
+}
+
+class EvalRepeatedlyProcessor implements TraitMethodProcessor {
+
+	override call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+
+		// evaluate twice with captured arguments
+		var result = expressionExtendedClass.eval + "," + expressionExtendedClass.eval
+
+		// evaluate twice with changed arguments
+		expressionTraitClass.setArgument(0, (expressionTraitClass.getArgument(0) as Integer) + 100)
+		result += "," + expressionTraitClass.eval + "," + expressionTraitClass.eval
+
+		// change arguments after evaluation
+		expressionExtendedClass.setArgument(1, "b")
+		result += "," + expressionExtendedClass.eval
+
+		return result
+
+	}
+
+}
+
+class EvalNestedProcessor implements TraitMethodProcessor {
+
+	override call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+
+		// the nested call (inside of extended class) must not affect arguments of this call
+		val resultExtendedClass = expressionExtendedClass.eval
+		return resultExtendedClass + "/" + expressionExtendedClass.getArgument(0) + "/" + expressionTraitClass.eval
+
+	}
+
+}
+
+@TraitClassAutoUsing
+abstract class TraitClassCapturedArguments {
+
+	public int calledTraitClass = 0
+
+	@ProcessedMethod(processor=EvalRepeatedlyProcessor)
+	override String methodEvalRepeatedly(int x, String y) {
+		calledTraitClass++
+		return "T" + x + y
+	}
+
+	@ProcessedMethod(processor=EvalNestedProcessor)
+	override String methodEvalNested(int depth) {
+		return "T" + depth
+	}
+
+	@ExclusiveMethod
+	override int getCalledTraitClass() {
+		return calledTraitClass
+	}
+
+}
+
+@ExtendedByAuto
+class ExtendedClassCapturedArguments implements ITraitClassCapturedArguments {
+
+	public int calledExtendedClass = 0
+
+	override String methodEvalRepeatedly(int x, String y) {
+		calledExtendedClass++
+		return "E" + x + y
+	}
+
+	override String methodEvalNested(int depth) {
+		if (depth == 0)
+			return "E0"
+		return "E" + depth + "(" + methodEvalNested(depth - 1) + ")"
+	}
+
+}
+
 class TraitsProcessorOwnProcessorTests extends TraitTestsBase {
 
+	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
+
 	@Test
 	def void testReturnZeroIfNotInExtendedProcessor() {
 
@@ -208,4 +459,137 @@ class TraitsProcessorOwnProcessorTests extends TraitTestsBase {
 		
 	}
 
+	@Test
+	def void testStatelessProcessor() {
+
+		val obj1 = new ExtendedClassStatelessProcessor();
+		val obj2 = new ExtendedClassStatelessProcessor();
+		val statefulCounter = CountInstancesStatefulProcessor.INSTANCE_COUNTER
+
+		assertEquals(1, obj1.methodStateless)
+		assertEquals(2, obj1.methodStatelessOther)
+		assertEquals(1, obj2.methodStateless)
+		assertEquals(3, obj1.methodStateful)
+		assertEquals(3, obj2.methodStateful)
+
+		// stateless processor is only created once per extended class
+		assertEquals(1, CountInstancesStatelessProcessor.INSTANCE_COUNTER)
+		assertEquals(statefulCounter + 2, CountInstancesStatefulProcessor.INSTANCE_COUNTER)
+
+	}
+
+	@Test
+	def void testCapturedArgumentsEvalRepeatedly() {
+
+		val obj = new ExtendedClassCapturedArguments
+
+		assertEquals("E1a,E1a,T101a,T101a,E1b", obj.methodEvalRepeatedly(1, "a"))
+		assertEquals(3, obj.calledExtendedClass)
+		assertEquals(2, obj.calledTraitClass)
+
+		// new call must capture new arguments
+		assertEquals("E2c,E2c,T102c,T102c,E2b", obj.methodEvalRepeatedly(2, "c"))
+		assertEquals(6, obj.calledExtendedClass)
+		assertEquals(4, obj.calledTraitClass)
+
+	}
+
+	@Test
+	def void testCapturedArgumentsEvalNested() {
+
+		val obj = new ExtendedClassCapturedArguments
+
+		assertEquals("E0/0/T0", obj.methodEvalNested(0))
+		assertEquals("E1(E0/0/T0)/1/T1", obj.methodEvalNested(1))
+		assertEquals("E2(E1(E0/0/T0)/1/T1)/2/T2", obj.methodEvalNested(2))
+
+	}
+
+	@Test
+	def void testPrimitiveProcessor() {
+
+		val obj = new ExtendedClassPrimitiveProcessor();
+		assertEquals(31, obj.methodSum(10))
+		assertEquals(5, obj.methodSumNotInExtended)
+
+	}
+
+	@Test
+	def void testPrimitiveProcessorSelection() {
+
+		val obj = new ExtendedClassPrimitiveProcessorSelection
+		assertEquals(5, obj.methodIntOrBooleanInt)
+		assertTrue(obj.methodIntOrBooleanBoolean)
+		assertEquals(9, obj.methodDetectSpecialization)
+
+	}
+
+	@Test
+	def void testPrimitiveProcessorGenericCall() {
+
+		val lazyTraitClass = new LazyEvaluationAbstract(null, #[2]) {
+			override eval() { (getArgument(0) as Integer) * 10 }
+		}
+		val lazyExtendedClass = new LazyEvaluationAbstract(null, #[]) {
+			override eval() { 7 }
+		}
+
+		// plain lazy evaluation objects are adapted (not casted)
+		val intSumProcessor = new IntSumProcessor
+		assertEquals(37, intSumProcessor.call(lazyTraitClass, lazyExtendedClass))
+		// (argument has been incremented by previous call)
+		assertEquals(30, intSumProcessor.call(lazyTraitClass, null))
+
+		val lazyTrue = new LazyEvaluationAbstract(null, null) {
+			override eval() { true }
+		}
+		val intOrBooleanProcessor = new IntOrBooleanProcessor
+		assertEquals(true, intOrBooleanProcessor.callBoolean(BooleanLazyEvaluationAdapter.adapt(lazyTrue), null))
+		assertEquals(7, intOrBooleanProcessor.callInt(IntLazyEvaluationAdapter.adapt(lazyExtendedClass), null))
+
+		// objects implementing the specialized interface are not wrapped
+		val intLazyEvaluation = IntLazyEvaluationAdapter.adapt(lazyExtendedClass)
+		assertSame(intLazyEvaluation, IntLazyEvaluationAdapter.adapt(intLazyEvaluation))
+		assertNull(IntLazyEvaluationAdapter.adapt(null))
+
+	}
+
+	@Test
+	def void testPrimitiveProcessorReturnTypeMismatch() {
+
+		'''
+
+package virtual
+
+import org.eclipse.xtend.lib.annotation.etai.ProcessedMethod
+import org.eclipse.xtend.lib.annotation.etai.TraitClassAutoUsing
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.IntSumProcessor
+
+@TraitClassAutoUsing
+abstract class TraitClassPrimitiveProcessor {
+
+	@ProcessedMethod(processor=IntSumProcessor)
+	override long method() { 1 }
+
+}
+
+		'''.compile [
+
+			val extension ctx = transformationContext
+
+			val clazz = findClass("virtual.TraitClassPrimitiveProcessor")
+
+			val problemsMethod = (clazz.findDeclaredMethod("method").primarySourceElement as MethodDeclaration).problems
+
+			// do assertions
+			assertEquals(1, problemsMethod.size)
+			assertEquals(Severity.ERROR, problemsMethod.get(0).severity)
+			assertTrue(problemsMethod.get(0).message.contains("return type \"int\""))
+
+			assertEquals(1, allProblems.size)
+
+		]
+
+	}
+
 }
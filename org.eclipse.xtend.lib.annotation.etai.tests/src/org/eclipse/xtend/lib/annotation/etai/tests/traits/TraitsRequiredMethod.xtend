@@ -11,6 +11,7 @@ import org.eclipse.xtend.lib.annotation.etai.RequiredMethod
 import org.eclipse.xtend.lib.annotation.etai.TraitClassAutoUsing
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassRequiredImplemented
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassRequiredMethod
+import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassRequiredMethodCalled
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassRequiredMethodDerived
 import org.eclipse.xtend.lib.annotation.etai.tests.traits.intf.ITraitClassRequiredMethodIntermediate
 import org.eclipse.xtend.lib.macro.declaration.MethodDeclaration
@@ -153,6 +154,51 @@ class ExtendedRequiredMethodFromBaseCheckVisibility extends ExtendedRequiredMeth
 class ExtendedRequiredMethodDerived implements ITraitClassRequiredMethodDerived {
 }
 
+@TraitClassAutoUsing
+abstract class TraitClassRequiredMethodCalled {
+
+	@RequiredMethod
+	abstract protected def int compute(int value)
+
+	@RequiredMethod
+	abstract protected def void throwException(String message, boolean checked)
+
+	@ExclusiveMethod
+	override int computeViaTrait(int value) {
+		return compute(value)
+	}
+
+	@ExclusiveMethod
+	override void throwExceptionViaTrait(String message, boolean checked) {
+		throwException(message, checked)
+	}
+
+}
+
+@ExtendedByAuto
+class ExtendedRequiredMethodCalled implements ITraitClassRequiredMethodCalled {
+
+	protected def int compute(int value) {
+		return value * 2
+	}
+
+	protected def void throwException(String message, boolean checked) {
+		if (checked)
+			throw new Exception(message)
+		else
+			throw new IllegalArgumentException(message)
+	}
+
+}
+
+class ExtendedRequiredMethodCalledOverride extends ExtendedRequiredMethodCalled {
+
+	override protected int compute(int value) {
+		return value * 3
+	}
+
+}
+
 class RequiredMethodTests extends TraitTestsBase {
 
 	extension XtendCompilerTester compilerTester = XtendCompilerTester.newXtendCompilerTester(Extension.classLoader)
@@ -248,6 +294,45 @@ class RequiredMethodTests extends TraitTestsBase {
 
 	}
 
+	@Test
+	def void testRequiredMethodCalledFromTrait() {
+
+		val obj = new ExtendedRequiredMethodCalled
+		val objOverride = new ExtendedRequiredMethodCalledOverride
+
+		// method handle is resolved per class, so overriding methods are considered
+		assertEquals(10, obj.computeViaTrait(5))
+		assertEquals(15, objOverride.computeViaTrait(5))
+		assertEquals(12, obj.computeViaTrait(6))
+		assertEquals(18, objOverride.computeViaTrait(6))
+
+	}
+
+	@Test
+	def void testRequiredMethodCalledFromTraitException() {
+
+		// exceptions are passed through without being wrapped
+		for (obj : #[new ExtendedRequiredMethodCalled, new ExtendedRequiredMethodCalledOverride]) {
+
+			try {
+				obj.throwExceptionViaTrait("unchecked", false)
+				fail("IllegalArgumentException expected")
+			} catch (IllegalArgumentException exception) {
+				assertEquals("unchecked", exception.message)
+			}
+
+			try {
+				obj.throwExceptionViaTrait("checked", true)
+				fail("Exception expected")
+			} catch (Exception exception) {
+				assertSame(Exception, exception.class)
+				assertEquals("checked", exception.message)
+			}
+
+		}
+
+	}
+
 	@Test
 	def void testRequiredMethodAbstract() {
 
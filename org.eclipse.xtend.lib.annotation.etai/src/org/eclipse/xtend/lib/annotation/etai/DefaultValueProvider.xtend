@@ -4,7 +4,11 @@ package org.eclipse.xtend.lib.annotation.etai
  * <p>Interface for objects which provide a default value. According objects can be used
  * for envelope methods.</p>
  * 
+ * <p>Only one object is created per default value provider class and shared by all
+ * calls, so implementations should be stateless (or at least thread-safe).</p>
+ * 
  * @see EnvelopeMethod
+ * @see ConstantDefaultValueProvider
  */
 interface DefaultValueProvider<T> {
 
@@ -15,10 +19,22 @@ interface DefaultValueProvider<T> {
 
 }
 
+/**
+ * <p>Interface for default value providers which always return the same value.</p>
+ * 
+ * <p>By implementing this interface, a default value provider declares that its default
+ * value does not change. Therefore, the default value is only retrieved once and
+ * reused afterwards.</p>
+ * 
+ * @see DefaultValueProvider
+ */
+interface ConstantDefaultValueProvider<T> extends DefaultValueProvider<T> {
+}
+
 /** 
  * <p>Default value provider that returns <code>null</code> for any object type.</p>
  */
-class DefaultValueProviderNull implements DefaultValueProvider<Object> {
+class DefaultValueProviderNull implements ConstantDefaultValueProvider<Object> {
 	
 	override Object getDefaultValue() { null }
 
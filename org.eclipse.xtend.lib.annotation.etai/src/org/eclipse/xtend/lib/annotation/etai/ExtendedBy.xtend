@@ -165,6 +165,17 @@ annotation ExtendedPriorityEnvelopeCallerMethod {
 annotation ExtendedConstructionHelperMethod {
 }
 
+/**
+ * <p>This annotation is put onto methods within extended classes,
+ * which have been generated for retrieving a lazily constructed
+ * delegation object.</p>
+ * 
+ * @see TraitClass#lazy
+ */
+@Target(ElementType.METHOD)
+annotation ExtendedLazyDelegationObjectMethod {
+}
+
 /**
  * <p>This annotation is put onto constructors within extended classes,
  * which have been generated for delegation purpose. Thereby, the main purpose
@@ -255,15 +266,23 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 	// this flag can be set in order to avoid processing of EPDefault and EPOverride (optimization)
 	final static public boolean ENABLE_PROCESSOR_SHORTCUT = true
 
+	// this flag can be set in order to generate the functionality of built-in trait method processors directly (optimization),
+	// it can be disabled via system property, so generated code with and without this optimization can be compared (tests)
+	final static public String DISABLE_PROCESSOR_INTRINSICS_PROPERTY = "org.eclipse.xtend.lib.annotation.etai.disableProcessorIntrinsics"
+	final static public boolean ENABLE_PROCESSOR_INTRINSICS = !Boolean.getBoolean(DISABLE_PROCESSOR_INTRINSICS_PROPERTY)
+
 	final static public String TRAIT_OBJECT_NOT_CONSTRUCTED_ERROR = "Trait object of type \"%s\" has not been constructed via construction helper call"
 	final static public String TRAIT_OBJECT_ALREADY_CONSTRUCTED_ERROR = "Trait object of type \"%s\" has already been constructed"
 
 	final static public String DELEGATION_OBJECT_NAME_PREFIX = "delegate$"
+	final static public String DELEGATION_OBJECT_LAZY_METHOD_NAME_PREFIX = "lazy$delegate$"
+	final static public String DELEGATION_OBJECT_LAZY_LOCK_NAME_PREFIX = "lazy$lock$"
 	final static public String TRAIT_CLASS_CONSTRUCTOR_CALL_NAME_AUTO_PREFIX = "auto$new$"
 	final static public String TRAIT_CLASS_CONSTRUCTOR_CALL_NAME_PREFIX = "new$"
 	final static public String EXTENDED_METHOD_IMPL_NAME_SEPARATOR = "__$beforeExtended$__"
 	final static public String EXTENDED_METHOD_IMPL_NAME_ENVELOPE_METHOD_SUFFIX = "$impl"
 	final static public String EXTENDED_METHOD_PRIORITY_ENVELOPE_CALLER_SUFFIX = "$priorityEnvelopeCaller"
+	final static public String TRAIT_METHOD_PROCESSOR_FIELD_NAME_PREFIX = "$traitMethodProcessor$"
 
 	final static public Set<String> EXTENDED_CLASS_TO_BE_PROCESSED = new HashSet<String>
 
@@ -285,6 +304,43 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 		DELEGATION_OBJECT_NAME_PREFIX + traitClass.simpleName
 	}
 
+	/**
+	 * <p>Returns name of the method retrieving the lazily constructed delegate for the given trait class.</p>
+	 * 
+	 * @see TraitClass#lazy
+	 */
+	static def String getDelegateObjectLazyMethodName(ClassDeclaration traitClass) {
+		DELEGATION_OBJECT_LAZY_METHOD_NAME_PREFIX + traitClass.simpleName
+	}
+
+	/**
+	 * <p>Returns name of the lock, which guards the lazy construction of the delegate for the given trait class.</p>
+	 * 
+	 * @see TraitClass#lazyThreadSafe
+	 */
+	static def String getDelegateObjectLazyLockName(ClassDeclaration traitClass) {
+		DELEGATION_OBJECT_LAZY_LOCK_NAME_PREFIX + traitClass.simpleName
+	}
+
+	/**
+	 * <p>Returns the code for accessing the trait object of the given trait class from within a method
+	 * of the given extended class.</p>
+	 * 
+	 * <p>This is usually the delegation object. However, if the trait class is constructed lazily, the
+	 * delegation object is retrieved via a method constructing it on first access.</p>
+	 * 
+	 * @see TraitClass#lazy
+	 */
+	static def <T extends TypeLookup & FileLocations & TypeReferenceProvider> String getDelegateObjectCode(
+		ClassDeclaration extendedClass, ClassDeclaration traitClass, extension T context) {
+
+		if (traitClass.isTraitClassLazy)
+			return traitClass.delegateObjectLazyMethodName + "()"
+
+		return traitClass.delegateObjectName
+
+	}
+
 	/**
 	 * <p>Returns name of the construction helper method for the given trait class.</p>
 	 */
@@ -700,6 +756,28 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 
 	}
 
+	/**
+	 * <p>Retrieves the trait classes of the given class (and its superclasses), which only have constructor methods
+	 * without parameters, i.e., their delegation objects are constructed together with the extended object.</p>
+	 */
+	static def <T extends TypeLookup & FileLocations & TypeReferenceProvider> List<ClassDeclaration> getTraitClassesWithParameterlessConstruction(
+		ClassDeclaration annotatedClass, extension T context) {
+
+		val result = new ArrayList<ClassDeclaration>
+		for (currentClass : annotatedClass.getSuperClasses(true).reverse) {
+			for (traitClassRef : currentClass.getTraitClassesAppliedToExtended(null, context)) {
+				if (traitClassRef?.type instanceof ClassDeclaration) {
+					val traitClass = traitClassRef.type as ClassDeclaration
+					if (traitClass.hasConstructorMethod(context) && !traitClass.hasNonEmptyConstructorMethod(context) &&
+						!traitClass.isTraitClassLazy)
+						result.add(traitClass)
+				}
+			}
+		}
+		return result
+
+	}
+
 	/** 
 	 * <p>Returns a list of priority envelope methods that must be applied to the given class because of new trait classes.</p>
 	 */
@@ -945,10 +1023,17 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 
 					initializer = '''null'''
 
+				} else if (traitClass.isTraitClassLazy) {
+
+					initializer = '''null'''
+					volatile = traitClass.isTraitClassLazyThreadSafe
+
 				} else {
 
 					initializer = '''new «traitClass.qualifiedName»(this«IF !traitClass.hasConstructorMethod(context)», (org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.IConstructorParamDummySetExtendedThis) null«ENDIF»)'''
-					final = true
+
+					// delegation object is constructed again if recycled by the factory (see FactoryMethodRule#poolSize)
+					final = !traitClass.hasConstructorMethod(context)
 
 				}
 
@@ -956,6 +1041,59 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 
 			]
 
+			// create lock for constructing delegation object lazily (the extended object itself is not used
+			// as lock, so synchronization on it by other code cannot interfere)
+			if (traitClass.isTraitClassLazy && traitClass.isTraitClassLazyThreadSafe) {
+
+				annotatedClass.addField(traitClass.delegateObjectLazyLockName) [
+
+					static = false
+					final = true
+					visibility = Visibility::PRIVATE
+					type = Object.newTypeReference
+					initializer = '''new Object()'''
+					docComment = '''This is the lock for constructing the delegation object for the functionality of trait class «traitClass.getJavaDocLinkTo(context)» lazily'''
+
+				]
+
+			}
+
+			// create method for constructing delegation object lazily
+			if (traitClass.isTraitClassLazy) {
+
+				val lazyDelegationObjectMethod = annotatedClass.addMethod(traitClass.delegateObjectLazyMethodName) [
+					visibility = Visibility::PROTECTED
+					returnType = traitClassRef.type.newTypeReference(traitClassRef.actualTypeArguments.map [
+						copyTypeReference(it, typeMap, context)
+					])
+					docComment = '''<p>Returns the delegation object for trait class «traitClass.getJavaDocLinkTo(context)», which is constructed on first access.</p>'''
+				]
+				lazyDelegationObjectMethod.addAnnotation(ExtendedLazyDelegationObjectMethod.newAnnotationReference)
+
+				val delegateTypeString = lazyDelegationObjectMethod.returnType.getTypeReferenceAsString(true,
+					TypeErasureMethod.NONE, false, false, context)
+				val constructionCode = '''new «traitClass.qualifiedName»(this«IF !traitClass.hasConstructorMethod(context)», (org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.IConstructorParamDummySetExtendedThis) null«ENDIF»)'''
+
+				bodySetter.setBody(lazyDelegationObjectMethod, '''
+					«delegateTypeString» internal$delegate = this.«traitClass.delegateObjectName»;
+					if (internal$delegate == null) {
+						«IF traitClass.isTraitClassLazyThreadSafe»
+							synchronized (this.«traitClass.delegateObjectLazyLockName») {
+								internal$delegate = this.«traitClass.delegateObjectName»;
+								if (internal$delegate == null) {
+									internal$delegate = «constructionCode»;
+									this.«traitClass.delegateObjectName» = internal$delegate;
+								}
+							}
+						«ELSE»
+							internal$delegate = «constructionCode»;
+							this.«traitClass.delegateObjectName» = internal$delegate;
+						«ENDIF»
+					}
+					return internal$delegate;''', context)
+
+			}
+
 			// cache method closure (of non-abstract and implemented methods)
 			val methodClosureCache = annotatedClass.getMethodClosure(null, [
 				false
@@ -1056,6 +1194,193 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 
 	}
 
+	/**
+	 * <p>Returns the name of the static field in the given extended class, which holds the single object
+	 * of the given (stateless) trait method processor. The field is created if not existing yet.</p>
+	 * 
+	 * @see StatelessProcessor
+	 */
+	static def String getTraitMethodProcessorField(MutableClassDeclaration annotatedClass, TypeDeclaration processor,
+		extension TransformationContext context) {
+
+		val fieldName = TRAIT_METHOD_PROCESSOR_FIELD_NAME_PREFIX + processor.qualifiedName.replace(".", "$")
+
+		if (annotatedClass.findDeclaredField(fieldName) === null) {
+
+			val traitMethodProcessorField = annotatedClass.addField(fieldName) [
+
+				static = true
+				final = true
+				visibility = Visibility::PRIVATE
+				type = TraitMethodProcessor.newTypeReference
+				initializer = '''new «processor.qualifiedName»()'''
+
+				// documentation
+				docComment = '''This field holds the (stateless) trait method processor «processor.getJavaDocLinkTo(context)».'''
+
+			]
+
+			traitMethodProcessorField.markAsRead
+
+		}
+
+		return fieldName
+
+	}
+
+	/**
+	 * <p>Returns the code of a delegation method body, which implements the functionality of the given
+	 * built-in trait method processor directly, i.e., without calling the processor and without lazy evaluation
+	 * objects. If the extended method shall not be called, the according code must be <code>null</code>.</p>
+	 * 
+	 * <p>If the processor is not a built-in processor or cannot be applied directly for the given return type,
+	 * <code>null</code> is returned.</p>
+	 */
+	static def String getIntrinsicProcessorCode(TypeDeclaration processor, String traitMethodCall,
+		String extendedMethodCall, boolean isVoid, boolean isPrimitive, String returnTypeString) {
+
+		val isBoolean = returnTypeString == "boolean" || returnTypeString == Boolean.canonicalName
+		val returnTraitMethodCall = '''«IF isVoid»«traitMethodCall»;«ELSE»return («returnTypeString») «traitMethodCall»;«ENDIF»'''
+		val returnExtendedMethodCall = '''«IF isVoid»«extendedMethodCall»;«ELSE»return («returnTypeString») «extendedMethodCall»;«ENDIF»'''
+
+		switch (processor.qualifiedName) {
+
+			case EPDefault.canonicalName:
+				return if (extendedMethodCall !== null) returnExtendedMethodCall else returnTraitMethodCall
+
+			case EPOverride.canonicalName:
+				return returnTraitMethodCall
+
+			case EPVoidPre.canonicalName:
+				if (isVoid)
+					return '''
+						«traitMethodCall»;
+						«IF extendedMethodCall !== null»«extendedMethodCall»;«ENDIF»'''
+
+			case EPVoidPost.canonicalName:
+				if (isVoid)
+					return '''
+						«IF extendedMethodCall !== null»«extendedMethodCall»;«ENDIF»
+						«traitMethodCall»;'''
+
+			case EPVoidFinally.canonicalName:
+				if (isVoid)
+					return if (extendedMethodCall !== null) '''
+						try {
+							«extendedMethodCall»;
+						} finally {
+							«traitMethodCall»;
+						}''' else returnTraitMethodCall
+
+			case EPBooleanPreAnd.canonicalName,
+			case EPBooleanPreOr.canonicalName:
+				if (isBoolean)
+					return if (extendedMethodCall !== null) '''
+						«returnTypeString» internal$result = («returnTypeString») «traitMethodCall»;
+						if («IF processor.qualifiedName == EPBooleanPreOr.canonicalName»!«ENDIF»internal$result)
+							internal$result = («returnTypeString») «extendedMethodCall»;
+						return internal$result;''' else returnTraitMethodCall
+
+			case EPBooleanPostAnd.canonicalName,
+			case EPBooleanPostOr.canonicalName:
+				if (isBoolean)
+					return if (extendedMethodCall !== null) '''
+						«returnTypeString» internal$result = («returnTypeString») «extendedMethodCall»;
+						if («IF processor.qualifiedName == EPBooleanPostOr.canonicalName»!«ENDIF»internal$result)
+							internal$result = («returnTypeString») «traitMethodCall»;
+						return internal$result;''' else returnTraitMethodCall
+
+			case EPFirstNotNullPre.canonicalName:
+				if (!isVoid && !isPrimitive)
+					return if (extendedMethodCall !== null) '''
+						«returnTypeString» internal$result = («returnTypeString») «traitMethodCall»;
+						if (internal$result != null)
+							return internal$result;
+						«returnExtendedMethodCall»''' else returnTraitMethodCall
+
+			case EPFirstNotNullPost.canonicalName:
+				if (!isVoid && !isPrimitive)
+					return if (extendedMethodCall !== null) '''
+						«returnTypeString» internal$result = («returnTypeString») «extendedMethodCall»;
+						if (internal$result != null)
+							return internal$result;
+						«returnTraitMethodCall»''' else returnTraitMethodCall
+
+			case EPExtendedResultPre.canonicalName:
+				return if (extendedMethodCall !== null) '''
+					«traitMethodCall»;
+					«returnExtendedMethodCall»''' else returnTraitMethodCall
+
+			case EPExtendedResultPost.canonicalName:
+				return if (extendedMethodCall !== null) '''
+					«IF isVoid»
+						«extendedMethodCall»;
+						«traitMethodCall»;
+					«ELSE»
+						«returnTypeString» internal$result = («returnTypeString») «extendedMethodCall»;
+						«traitMethodCall»;
+						return internal$result;
+					«ENDIF»''' else returnTraitMethodCall
+
+			case EPTraitClassResultPre.canonicalName:
+				return if (extendedMethodCall !== null) '''
+					«IF isVoid»
+						«traitMethodCall»;
+						«extendedMethodCall»;
+					«ELSE»
+						«returnTypeString» internal$result = («returnTypeString») «traitMethodCall»;
+						«extendedMethodCall»;
+						return internal$result;
+					«ENDIF»''' else returnTraitMethodCall
+
+			case EPTraitClassResultPost.canonicalName:
+				return '''
+					«IF extendedMethodCall !== null»«extendedMethodCall»;«ENDIF»
+					«returnTraitMethodCall»'''
+
+		}
+
+		return null
+
+	}
+
+	/**
+	 * <p>Returns the code for a lazy evaluation object, which is assigned to a new variable with the given name.</p>
+	 * 
+	 * <p>The arguments of the stored method call are captured by the created object, so they are only copied
+	 * if the trait method processor accesses them.</p>
+	 * 
+	 * <p>If a primitive specialization (e.g. <code>int</code>) is given, the lazy evaluation object will
+	 * return the result of the stored method call without boxing.</p>
+	 * 
+	 * @see LazyEvaluationCapturedArguments
+	 */
+	static def String getLazyEvaluationCode(String variableName, String executingObjectCode, String methodCallCode,
+		boolean isVoid, String primitiveSpecialization, List<String> paramNameList, List<String> paramCallList) '''
+		«IF primitiveSpecialization !== null»
+			org.eclipse.xtend.lib.annotation.etai.«primitiveSpecialization.toFirstUpper»LazyEvaluation «variableName» = new org.eclipse.xtend.lib.annotation.etai.«primitiveSpecialization.toFirstUpper»LazyEvaluationCapturedArguments(«executingObjectCode») {
+		«ELSE»
+			org.eclipse.xtend.lib.annotation.etai.LazyEvaluation «variableName» = new org.eclipse.xtend.lib.annotation.etai.LazyEvaluationCapturedArguments(«executingObjectCode») {
+		«ENDIF»
+			protected Object[] captureArguments() {
+				return new Object[] { «paramNameList.join(", ")» };
+			}
+			«IF primitiveSpecialization !== null»
+				public «primitiveSpecialization» eval«primitiveSpecialization.toFirstUpper»() {
+			«ELSE»
+				public Object eval() {
+			«ENDIF»
+				«IF paramNameList.size > 0»
+					if (!isArgumentsMaterialized()) {
+						«IF !isVoid»return «ENDIF»«methodCallCode»(«paramNameList.join(", ")»);
+						«IF isVoid»return null;«ENDIF»
+					}
+				«ENDIF»
+				«IF !isVoid»return «ENDIF»«methodCallCode»(«paramCallList.join(", ")»);
+				«IF isVoid»return null;«ENDIF»
+			}
+		};'''
+
 	def void doTransformForTraitClassMethod(MutableClassDeclaration annotatedClass, ClassDeclaration traitClass,
 		MethodDeclaration traitClassMethod, List<MethodDeclaration> methodClosureCache, TypeMap typeMap,
 		BodySetter bodySetter, extension TransformationContext context) {
@@ -1434,7 +1759,7 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 			// set body (simply call trait class functionality)
 			val delegationMethodFinal = delegationMethod
 			bodySetter.setBody(
-				delegationMethod, '''«IF !isVoid»return («delegationMethodFinal.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context)») «ENDIF»«traitClass.delegateObjectName».«traitClassMethod.getTraitMethodImplName»(«delegationMethod.parameterNames.join(", ")»);''',
+				delegationMethod, '''«IF !isVoid»return («delegationMethodFinal.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context)») «ENDIF»«annotatedClass.getDelegateObjectCode(traitClass, context)».«traitClassMethod.getTraitMethodImplName»(«delegationMethod.parameterNames.join(", ")»);''',
 				context)
 
 			return;
@@ -1443,37 +1768,6 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 
 		var String methodBody = ""
 
-		// prepare list of argument values
-		val paramNameListDelegationMethod = delegationMethod.parameterNames
-		if (paramNameListDelegationMethod.size == 0) {
-
-			methodBody = '''java.util.List<Object> internal$arguments = null;'''
-
-		} else {
-
-			methodBody = '''java.util.List<Object> internal$arguments = new java.util.ArrayList<Object>();'''
-
-			for (paramNameDelegationMethod : paramNameListDelegationMethod)
-				methodBody += "\n" + '''internal$arguments.add(«paramNameDelegationMethod»);'''
-
-		}
-
-		// construct parameter passing code
-		val paramCallList = new ArrayList<String>
-		for (paramCounter : 0 ..< paramNameListDelegationMethod.size) {
-			paramCallList.
-				add('''(«delegationMethod.parameters.get(paramCounter).type.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context)») getArgument(«paramCounter»)''')
-		}
-
-		// lazy evaluation of functionality in trait class
-		methodBody += "\n" +
-			'''org.eclipse.xtend.lib.annotation.etai.LazyEvaluation internal$lazyValueExtension = new org.eclipse.xtend.lib.annotation.etai.LazyEvaluationAbstract(«traitClass.delegateObjectName», internal$arguments) {
-					public Object eval() {
-						«IF !isVoid»return «ENDIF»«traitClass.delegateObjectName».«traitClassMethod.getTraitMethodImplName»(«paramCallList.join(", ")»);
-						«IF isVoid»return null;«ENDIF»
-					}
-				};'''
-
 		// call super method if implementation is not in this class
 		var String existingMethodCall
 		if (existingMethodInCurrentClassImplemented) {
@@ -1489,22 +1783,6 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 
 		}
 
-		// lazy evaluation of functionality in extended class
-		if (processorMustCallExtendedMethod)
-			methodBody += "\n" + '''org.eclipse.xtend.lib.annotation.etai.LazyEvaluation internal$lazyValueExtended = new org.eclipse.xtend.lib.annotation.etai.LazyEvaluationAbstract(this, internal$arguments) {
-					public Object eval() {
-						«IF !isVoid»return «ENDIF»«existingMethodCall»(«paramCallList.join(", ")»);
-						«IF isVoid»return null;«ENDIF»
-					}
-				};'''
-
-		// trait method processor call
-		val processorCall = '''internal$resultTraitMethodProcessor.call(internal$lazyValueExtension, «IF processorMustCallExtendedMethod»internal$lazyValueExtended«ELSE»null«ENDIF»)'''
-
-		// compute result via trait method processor
-		methodBody += "\n" +
-			'''org.eclipse.xtend.lib.annotation.etai.TraitMethodProcessor internal$resultTraitMethodProcessor = new «processor.qualifiedName»();'''
-
 		// check if return conversion (in case of arrays) is required
 		var boolean returnArrayConversionRequired = false
 		if (!isVoid && delegationMethod.returnType.array && traitClassMethodRedirected.typeParameters.size ==
@@ -1516,17 +1794,92 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 
 		}
 
+		// documentation
+		delegationMethod.docComment = '''<p>This method combines the call of:</p>
+			<ul><li>{@link «IF existingMethodInCurrentClassImplemented»#«existingMethod.simpleName»«ELSE»«(annotatedClass.extendedClass.type as ClassDeclaration).qualifiedName»#«traitClassMethod.simpleName»«ENDIF»(«paramTypeNameListJavadoc.join(", ")»)}</ul>
+			<p>and</p>
+			<ul><li>{@link «traitClass.qualifiedName»#«delegationMethod.simpleName»(«paramTypeNameListJavadoc.join(", ")»)}</ul>
+			<p>via processor «processor.getJavaDocLinkTo(context)»</p>'''
+
+		// short-circuit (performance): built-in trait method processors are not called, but their functionality is generated directly
+		val paramNameListDelegationMethod = delegationMethod.parameterNames
+		if (ENABLE_PROCESSOR_INTRINSICS && !returnArrayConversionRequired) {
+
+			val intrinsicProcessorCode = getIntrinsicProcessorCode(processor,
+				'''«annotatedClass.getDelegateObjectCode(traitClass, context)».«traitClassMethod.getTraitMethodImplName»(«paramNameListDelegationMethod.join(", ")»)''',
+				if (processorMustCallExtendedMethod)
+					'''«existingMethodCall»(«paramNameListDelegationMethod.join(", ")»)'''
+				else
+					null, isVoid, delegationMethod.returnType.primitive,
+				delegationMethod.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false,
+					context))
+
+			if (intrinsicProcessorCode !== null) {
+				bodySetter.setBody(delegationMethod, intrinsicProcessorCode, context)
+				return
+			}
+
+		}
+
+		// construct parameter passing code (arguments are only copied if accessed by processor)
+		val paramCallList = new ArrayList<String>
+		for (paramCounter : 0 ..< paramNameListDelegationMethod.size) {
+			paramCallList.
+				add('''(«delegationMethod.parameters.get(paramCounter).type.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context)») getArgument(«paramCounter»)''')
+		}
+
+		// lazy evaluation objects are specialized for a primitive return type (in any case),
+		// and processors specialized for this return type are called without boxing
+		val returnTypeName = if(isVoid) null else delegationMethod.returnType.name
+		val lazyPrimitiveSpecialization = if (PRIMITIVE_SPECIALIZED_PROCESSORS.containsKey(returnTypeName))
+				returnTypeName
+			else
+				null
+		val primitiveSpecialization = processor.getProcessorPrimitiveSpecialization(returnTypeName, context)
+		val processorTypeName = if (primitiveSpecialization !== null)
+				PRIMITIVE_SPECIALIZED_PROCESSORS.get(primitiveSpecialization).canonicalName
+			else
+				TraitMethodProcessor.canonicalName
+
+		// lazy evaluation of functionality in trait class (a lazily constructed delegation object is retrieved beforehand)
+		var delegateObjectCode = annotatedClass.getDelegateObjectCode(traitClass, context)
+		if (delegateObjectCode != traitClass.delegateObjectName) {
+			methodBody += '''final «traitClass.qualifiedName» internal$traitObject = «delegateObjectCode»;''' + "\n"
+			delegateObjectCode = "internal$traitObject"
+		}
+		methodBody += getLazyEvaluationCode("internal$lazyValueExtension", delegateObjectCode,
+			delegateObjectCode + "." + traitClassMethod.getTraitMethodImplName, isVoid,
+			lazyPrimitiveSpecialization, paramNameListDelegationMethod, paramCallList)
+
+		// lazy evaluation of functionality in extended class
+		if (processorMustCallExtendedMethod)
+			methodBody += "\n" + getLazyEvaluationCode("internal$lazyValueExtended", "this", existingMethodCall, isVoid,
+				lazyPrimitiveSpecialization, paramNameListDelegationMethod, paramCallList)
+
+		// trait method processor call
+		val processorCall = '''internal$resultTraitMethodProcessor.call«IF primitiveSpecialization !== null»«primitiveSpecialization.toFirstUpper»«ENDIF»(internal$lazyValueExtension, «IF processorMustCallExtendedMethod»internal$lazyValueExtended«ELSE»null«ENDIF»)'''
+
+		// compute result via trait method processor (stateless processors are only created once)
+		if (processor.findAnnotation(StatelessProcessor.findTypeGlobally) !== null)
+			methodBody += "\n" +
+				'''«processorTypeName» internal$resultTraitMethodProcessor = («processorTypeName») «annotatedClass.getTraitMethodProcessorField(processor, context)»;'''
+		else
+			methodBody += "\n" +
+				'''«processorTypeName» internal$resultTraitMethodProcessor = new «processor.qualifiedName»();'''
+
 		// add return to method body
 		if (returnArrayConversionRequired) {
 
 			val delegationMethodReturnType = delegationMethod.returnType.getTypeReferenceAsString(true,
 				TypeErasureMethod.NONE, false, false, context)
 
-			// specific handling of array types (cannot be simply casted in case of covariance)
-			methodBody += "\n" +
-				'''«delegationMethodReturnType» internal$resultArray = («delegationMethodReturnType») «processorCall»;'''
-			methodBody += "\n" +
-				'''return java.util.Arrays.copyOf(internal$resultArray, internal$resultArray.length, «delegationMethod.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false,context)».class);'''
+			// specific handling of array types (cannot be simply casted in case of covariance),
+			// but the array is only copied if its runtime type does not match already
+			methodBody += "\n" + '''
+				Object[] internal$resultArray = (Object[]) «processorCall»;
+				if (internal$resultArray == null || internal$resultArray instanceof «delegationMethodReturnType»)
+					return («delegationMethodReturnType») internal$resultArray;
+				return java.util.Arrays.copyOf(internal$resultArray, internal$resultArray.length, «delegationMethodReturnType».class);'''
 
 		} else {
 			methodBody += "\n" +
@@ -1534,13 +1887,6 @@ class ExtendedByProcessor extends AbstractClassProcessor implements QueuedTransf
 
 		}
 
-		// documentation
-		delegationMethod.docComment = '''<p>This method combines the call of:</p>
-			<ul><li>{@link «IF existingMethodInCurrentClassImplemented»#«existingMethod.simpleName»«ELSE»«(annotatedClass.extendedClass.type as ClassDeclaration).qualifiedName»#«traitClassMethod.simpleName»«ENDIF»(«paramTypeNameListJavadoc.join(", ")»)}</ul>
-			<p>and</p>
-			<ul><li>{@link «traitClass.qualifiedName»#«delegationMethod.simpleName»(«paramTypeNameListJavadoc.join(", ")»)}</ul>
-			<p>via processor «processor.getJavaDocLinkTo(context)»</p>'''
-
 		// apply method body
 		bodySetter.setBody(delegationMethod, methodBody, context)
 
@@ -27,6 +27,7 @@ import org.eclipse.xtend.lib.annotation.etai.RemoverRuleProcessor.MethodDeclarat
 import org.eclipse.xtend.lib.annotation.etai.RemoverRuleProcessor.MethodDeclarationFromRemover_RemoveFrom
 import org.eclipse.xtend.lib.annotation.etai.RemoverRuleProcessor.MethodDeclarationFromRemover_RemoveFromIndexed
 import org.eclipse.xtend.lib.annotation.etai.SetterRuleProcessor.MethodDeclarationFromSetter
+import org.eclipse.xtend.lib.annotation.etai.utils.ObjectPool
 import org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils
 import org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.IConstructorParamDummy
 import org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.IConstructorParamDummyCheckApplyRules
@@ -278,6 +279,8 @@ class ApplyRulesProcessor extends AbstractClassProcessor implements QueuedTransf
 
 	final static public String INJECTED_PARAMETER_NAME_SEPARATOR = "______$injectedParam$"
 	final static public String FACTORY_CLASS_NAME = "Factory"
+	final static public String FACTORY_OBJECT_POOL_FIELD_NAME = "$objectPool"
+	final static public String FACTORY_RELEASE_METHOD_NAME = "release"
 
 	final static public String CLASS_PARAM_NAME_PREFIX = "$_type_"
 
@@ -1822,6 +1825,17 @@ class ApplyRulesProcessor extends AbstractClassProcessor implements QueuedTransf
 		Map<String, String> variableMap, TypeMap typeMap, BodySetter bodySetter,
 		extension TransformationContext context) {
 
+		// add fields holding synchronization locks (resolved only once)
+		for (field : annotatedClass.declaredFields.filter[!type.inferred && hasAnnotation(SynchronizationRule)].toList)
+			SynchronizationRuleProcessor.addSynchronizationLockField(field, context)
+
+		// add fields holding collection snapshots
+		for (field : annotatedClass.declaredFields.filter [
+			!type.inferred && hasAnnotation(GetterRule) &&
+				GetterRuleProcessor.getGetterInfo(it, context).collectionPolicy == CollectionGetterPolicy.SNAPSHOT
+		].toList)
+			GetterRuleProcessor.addCollectionSnapshotField(field, context)
+
 		// go through all fields (do not consider fields with inferred types)
 		for (field : annotatedClass.declaredFields.filter[!type.inferred]) {
 
@@ -2488,7 +2502,7 @@ class ApplyRulesProcessor extends AbstractClassProcessor implements QueuedTransf
 				priorityEnvelopeCallerMethod.addAnnotation(ExtendedPriorityEnvelopeCallerMethod.newAnnotationReference)
 
 				// add parameter for retrieving priority
-				priorityEnvelopeCallerMethod.addParameter("$currentPriority", newTypeReference(Integer))
+				priorityEnvelopeCallerMethod.addParameter("$currentPriority", primitiveInt)
 
 				// add parameter passing default value				
 				if (!isVoid)
@@ -2496,39 +2510,55 @@ class ApplyRulesProcessor extends AbstractClassProcessor implements QueuedTransf
 						newTypeReference(Class,
 							newWildcardTypeReference(newTypeReference(DefaultValueProvider, newWildcardTypeReference))))
 
-				var String methodBody = ""
-
-				// sort list of envelope methods
-				for (priorityEnvelopeMethodToIncludeEntry : priorityEnvelopeMethodsMapAll.get(
-					currentPriorityEnvelopeMethodSignature).entrySet) {
+				val returnCode = '''«IF !isVoid»return («priorityEnvelopeCallerMethod.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context)») «ENDIF»'''
+				val paramNames = priorityEnvelopeCallerDelegationMethod.parameterNames.join(", ")
 
-					methodBody += '''if ($currentPriority > «priorityEnvelopeMethodToIncludeEntry.key») {
-							«IF !isVoid»return («priorityEnvelopeCallerMethod.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context)») «ENDIF»«priorityEnvelopeMethodToIncludeEntry.value.getTraitClassDeclaringTraitMethod(annotatedClass, typeMap, context).delegateObjectName».«currentPriorityEnvelopeMethodSignature.getTraitMethodImplName»(«priorityEnvelopeCallerDelegationMethod.parameterNames.join(", ")»);
-							«IF isVoid»return;«ENDIF»
-						}
-						'''
-
-				}
+				// create code for calling envelope methods (sorted by priority)
+				val priorityEnvelopeMethodsSorted = priorityEnvelopeMethodsMapAll.get(
+					currentPriorityEnvelopeMethodSignature).entrySet.toList
+				val priorityEnvelopeMethodCallCodes = priorityEnvelopeMethodsSorted.map [
+					'''«returnCode»«annotatedClass.getDelegateObjectCode(value.getTraitClassDeclaringTraitMethod(annotatedClass, typeMap, context), context)».«currentPriorityEnvelopeMethodSignature.getTraitMethodImplName»(«paramNames»);«IF isVoid» return;«ENDIF»'''
+				]
 
+				// create code, which is used if there is no envelope method with lower priority
+				var String fallbackCode
 				if (hasAnyImplementation || willGetAutoImplementation) {
 
 					// call existing method in current class if existing or required...
-					methodBody +=
-						'''«IF !isVoid»return («priorityEnvelopeCallerMethod.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context)») «ENDIF»«currentPriorityEnvelopeMethodSignature.getExtendedMethodImplNameAfterExtendedByPriorityEnvelope»(«priorityEnvelopeCallerDelegationMethod.parameterNames.join(", ")»);
-						'''
+					fallbackCode = '''«returnCode»«currentPriorityEnvelopeMethodSignature.getExtendedMethodImplNameAfterExtendedByPriorityEnvelope»(«paramNames»);«IF isVoid» return;«ENDIF»'''
 
 				} else if (!isVoid) {
 
 					// ... otherwise use default value provider if return value is needed
-					methodBody += '''try {
-							return («priorityEnvelopeCallerMethod.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, true, context)») $defaultValueProvider.getConstructor().newInstance().getDefaultValue();
-						} catch (java.lang.InstantiationException | java.lang.IllegalAccessException | java.lang.IllegalArgumentException | java.lang.reflect.InvocationTargetException | java.lang.NoSuchMethodException | java.lang.SecurityException $exception) {
-							throw org.eclipse.xtext.xbase.lib.Exceptions.sneakyThrow($exception);
-						}
-						'''
+					fallbackCode = '''return («priorityEnvelopeCallerMethod.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, true, context)») org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils.getDefaultValue($defaultValueProvider);'''
+
+				} else {
+
+					fallbackCode = '''return;'''
 
 				}
 
+				// the order of envelope methods is known at compile time, so each known priority (of the
+				// caller) directly leads to the envelope method with the next lower priority
+				val callerPriorityCodes = new LinkedHashMap<Integer, String>
+				for (callerPriority : #[Integer.MAX_VALUE] + priorityEnvelopeMethodsSorted.map[key]) {
+					val nextIndex = priorityEnvelopeMethodsSorted.indexed.findFirst[value.key < callerPriority]?.key
+					callerPriorityCodes.put(callerPriority,
+						if(nextIndex !== null) priorityEnvelopeMethodCallCodes.get(nextIndex) else fallbackCode)
+				}
+
+				// all callers are known, so any other priority cannot occur (fallback only for safety)
+				val methodBody = '''
+					switch ($currentPriority) {
+						«FOR callerPriorityCode : callerPriorityCodes.entrySet»
+							case «callerPriorityCode.key»:
+								«callerPriorityCode.value»
+						«ENDFOR»
+						default:
+							«fallbackCode»
+					}
+				'''
+
 				// apply body
 				bodySetter.setBody(priorityEnvelopeCallerMethod, methodBody, context)
 
@@ -2661,6 +2691,37 @@ class ApplyRulesProcessor extends AbstractClassProcessor implements QueuedTransf
 
 				}
 
+				// add pool for recycling objects (if not abstract)
+				if (!factoryClass.abstract && factoryMethodRuleInfo.poolSize > 0) {
+
+					val poolField = factoryClass.addField(FACTORY_OBJECT_POOL_FIELD_NAME) [
+						it.final = true
+						it.visibility = Visibility::PRIVATE
+						it.type = ObjectPool.newTypeReference(object)
+						it.initializer = '''new «ObjectPool.canonicalName»<Object>(«factoryMethodRuleInfo.poolSize»)'''
+					]
+					poolField.markAsRead
+
+					val releaseMethod = factoryClass.addMethod(FACTORY_RELEASE_METHOD_NAME) [
+						it.visibility = Visibility::PUBLIC
+						it.returnType = primitiveBoolean
+						it.docComment = '''<p>Resets the given object (created by this factory) and puts it into the pool of the current thread,
+							so it can be recycled by factory methods without parameters. If the pool is full, the object is already in the pool
+							or the object is not of type «annotatedClass.getJavaDocLinkTo(context)» (exactly), <code>false</code> is returned.</p>
+							<p>The pool is confined to the current thread, i.e., an object released on another thread than the one it
+							has been created on will only be recycled by factory methods called on the releasing thread.</p>'''
+					]
+					releaseMethod.addParameter("obj",
+						annotatedClass.newTypeReference(annotatedClass.typeParameters.map[newWildcardTypeReference]))
+
+					bodySetter.setBody(releaseMethod, '''
+						if (obj == null || obj.getClass() != «annotatedClass.qualifiedName».class || this.«FACTORY_OBJECT_POOL_FIELD_NAME».contains(obj))
+							return false;
+						obj.«factoryMethodRuleInfo.resetMethod»();
+						return this.«FACTORY_OBJECT_POOL_FIELD_NAME».release(obj);''', context)
+
+				}
+
 				// add factory method to factory class
 				classToAddFactoryMethods = factoryClass
 
@@ -2894,14 +2955,14 @@ class ApplyRulesProcessor extends AbstractClassProcessor implements QueuedTransf
 
 					}
 
-					// edit body code for checking delegation objects (if not abstract)
+					// edit body code for checking delegation objects (if not abstract and checks are enabled)
 					var bodyCheckObjectCreation = ""
-					if (!newFactoryMethod.abstract) {
+					if (!newFactoryMethod.abstract && factoryMethodRuleInfo.checkConstruction) {
 
 						for (traitClassToCheck : traitClassesToConstructDisabled) {
 
 							bodyCheckObjectCreation +=
-								'''assert org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils.getPrivateFieldValue(internal$newObject, "«traitClassToCheck.delegateObjectName»") != null : String.format(org.eclipse.xtend.lib.annotation.etai.ExtendedByProcessor.TRAIT_OBJECT_NOT_CONSTRUCTED_ERROR, "«traitClassToCheck.qualifiedName»");
+								'''assert internal$newObject.«traitClassToCheck.delegateObjectName» != null : String.format(org.eclipse.xtend.lib.annotation.etai.ExtendedByProcessor.TRAIT_OBJECT_NOT_CONSTRUCTED_ERROR, "«traitClassToCheck.qualifiedName»");
 								'''
 
 						}
@@ -2933,10 +2994,38 @@ class ApplyRulesProcessor extends AbstractClassProcessor implements QueuedTransf
 					// store type argument string
 					val typeArgumentString = '''«IF (annotatedClass.typeParameters.size > 0)»<«newFactoryMethod.typeParameters.map[it.simpleName].join(", ")»>«ENDIF»'''
 
+					// recycle pooled object (only if there are no parameters), i.e., construct delegation objects
+					// of trait classes again (the called constructor methods do not have parameters either)
+					val bodyPooledObjectRecycling = if (useFactoryClass && !annotatedClass.abstract &&
+							factoryMethodRuleInfo.poolSize > 0 && newFactoryMethod.parameters.empty) '''
+						Object internal$pooledObject = this.«FACTORY_OBJECT_POOL_FIELD_NAME».acquire();
+						if (internal$pooledObject != null) {
+							«annotatedClass.qualifiedName»«typeArgumentString» internal$newObject = («annotatedClass.qualifiedName»«typeArgumentString») internal$pooledObject;
+							«FOR traitClassToConstruct : annotatedClass.getTraitClassesWithParameterlessConstruction(context).filter[!traitClassesToConstructEnabled.contains(it)]»
+							internal$newObject.«traitClassToConstruct.delegateObjectName» = new «traitClassToConstruct.qualifiedName»(internal$newObject);
+							«ENDFOR»
+							«FOR traitClassToConstruct : traitClassesToConstructEnabled»
+							internal$newObject.«traitClassToConstruct.delegateObjectName» = null;
+							«ENDFOR»
+							«bodyDelegationObjectCreation»
+							«IF !factoryMethodRuleInfo.initMethod.nullOrEmpty»internal$newObject.«factoryMethodRuleInfo.initMethod»();«ENDIF»
+							return internal$newObject;
+						}
+					''' else ""
+
 					// add body to factory method (if not abstract)
-					if (!newFactoryMethod.abstract) {
+					if (!newFactoryMethod.abstract && !factoryMethodRuleInfo.checkConstruction) {
+
+						bodySetter.setBody(newFactoryMethod, '''
+							«bodyPooledObjectRecycling»
+							«annotatedClass.qualifiedName»«typeArgumentString» internal$newObject = new «annotatedClass.qualifiedName»«typeArgumentString»(«paramNameList.join(", ")»);
+							«bodyDelegationObjectCreation»
+							«IF !factoryMethodRuleInfo.initMethod.nullOrEmpty»internal$newObject.«factoryMethodRuleInfo.initMethod»();«ENDIF»
+							return internal$newObject;''', context)
 
-						bodySetter.setBody(newFactoryMethod, '''assert org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor.registerObjectConstructionViaFactory() : org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor.REGISTER_OBJECT_CONSTRUCTION_ERROR;
+					} else if (!newFactoryMethod.abstract) {
+
+						bodySetter.setBody(newFactoryMethod, '''«bodyPooledObjectRecycling»assert org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor.registerObjectConstructionViaFactory() : org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor.REGISTER_OBJECT_CONSTRUCTION_ERROR;
 							try {
 								«annotatedClass.qualifiedName»«typeArgumentString» internal$newObject = new «annotatedClass.qualifiedName»«typeArgumentString»(«paramNameList.join(", ")»);
 								«bodyDelegationObjectCreation»
@@ -2949,6 +3038,95 @@ class ApplyRulesProcessor extends AbstractClassProcessor implements QueuedTransf
 
 					}
 
+					// create bulk factory method (if specified)
+					if (!factoryMethodRuleInfo.bulkFactoryMethod.nullOrEmpty) {
+
+						val newBulkFactoryMethod = classToAddFactoryMethods.addMethod(
+							factoryMethodRuleInfo.bulkFactoryMethod.replaceAll("\\%", annotatedClass.simpleName)) [
+
+							it.static = newFactoryMethod.static
+							it.deprecated = newFactoryMethod.deprecated
+							it.exceptions = newFactoryMethod.exceptions
+							it.abstract = newFactoryMethod.abstract
+
+						]
+
+						// map type parameters of factory method to type parameters of bulk factory method
+						val bulkTypeMap = new TypeMap
+						for (typeParameter : annotatedClass.typeParameters) {
+
+							val newTypeParamDeclaration = newBulkFactoryMethod.addTypeParameter(
+								typeParameter.simpleName, typeParameter.upperBounds)
+							bulkTypeMap.putTypeClone(
+								newFactoryMethod.typeParameters.findFirst[it.simpleName == typeParameter.simpleName],
+								newTypeParamDeclaration.newSelfTypeReference)
+
+						}
+
+						// return array of objects (arrays are covariant, so bulk factory methods of derived factory classes can override)
+						val elementType = newFactoryMethod.returnType.copyTypeReference(bulkTypeMap, context)
+						newBulkFactoryMethod.returnType = elementType.newArrayTypeReference
+
+						// copy parameters
+						newBulkFactoryMethod.addParameter("$count", primitiveInt)
+						for (parameter : newFactoryMethod.parameters)
+							newBulkFactoryMethod.addParameter(parameter.simpleName,
+								parameter.type.copyTypeReference(bulkTypeMap, context))
+						newBulkFactoryMethod.varArgs = newFactoryMethod.varArgs
+
+						// documentation
+						newBulkFactoryMethod.docComment = '''<p>This is the bulk factory method for creating the given number of «annotatedClass.getJavaDocLinkTo(context)» objects
+							(using the same arguments). For each object, it will call:</p>
+							<ul>
+								«calledConstructorsDocumentation»
+								«IF !factoryMethodRuleInfo.initMethod.nullOrEmpty»{@link «annotatedClass.qualifiedName»#«factoryMethodRuleInfo.initMethod»()}«ENDIF»
+							</ul>'''
+
+						// specify annotation
+						newBulkFactoryMethod.addAnnotation(GeneratedFactoryMethod.newAnnotationReference)
+						if (annotatedClass.typeParameters.size > 0)
+							newBulkFactoryMethod.addAnnotation(SuppressWarnings.newAnnotationReference [
+								setStringValue("value", "unchecked")
+							])
+
+						// add body to bulk factory method (if not abstract)
+						if (!newBulkFactoryMethod.abstract) {
+
+							val elementTypeString = elementType.getTypeReferenceAsString(true, TypeErasureMethod.NONE,
+								false, false, context)
+							val elementTypeErasureString = elementType.getTypeReferenceAsString(true,
+								TypeErasureMethod.REMOVE_GENERICS, false, false, context)
+
+							bodySetter.setBody(newBulkFactoryMethod, '''
+								«elementTypeString»[] internal$newObjects = «IF annotatedClass.typeParameters.size > 0»(«elementTypeString»[]) «ENDIF»new «elementTypeErasureString»[$count];
+								«IF factoryMethodRuleInfo.checkConstruction»
+									assert org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor.registerObjectConstructionViaFactory() : org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor.REGISTER_OBJECT_CONSTRUCTION_ERROR;
+									try {
+										for (int internal$i = 0; internal$i < $count; internal$i++) {
+											assert org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor.renewObjectConstructionViaFactory() : org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor.REGISTER_OBJECT_CONSTRUCTION_ERROR;
+											«annotatedClass.qualifiedName»«typeArgumentString» internal$newObject = new «annotatedClass.qualifiedName»«typeArgumentString»(«paramNameList.join(", ")»);
+											«bodyDelegationObjectCreation»
+											«bodyCheckObjectCreation»
+											«IF !factoryMethodRuleInfo.initMethod.nullOrEmpty»internal$newObject.«factoryMethodRuleInfo.initMethod»();«ENDIF»
+											internal$newObjects[internal$i] = internal$newObject;
+										}
+									} finally {
+										assert org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor.unregisterObjectConstructionViaFactory() : org.eclipse.xtend.lib.annotation.etai.FactoryMethodRuleProcessor.UNREGISTER_OBJECT_CONSTRUCTION_ERROR;
+									}
+								«ELSE»
+									for (int internal$i = 0; internal$i < $count; internal$i++) {
+										«annotatedClass.qualifiedName»«typeArgumentString» internal$newObject = new «annotatedClass.qualifiedName»«typeArgumentString»(«paramNameList.join(", ")»);
+										«bodyDelegationObjectCreation»
+										«IF !factoryMethodRuleInfo.initMethod.nullOrEmpty»internal$newObject.«factoryMethodRuleInfo.initMethod»();«ENDIF»
+										internal$newObjects[internal$i] = internal$newObject;
+									}
+								«ENDIF»
+								return internal$newObjects;''', context)
+
+						}
+
+					}
+
 				}
 
 				// ensure that constructor is not synthetic
@@ -2968,8 +3146,10 @@ class ApplyRulesProcessor extends AbstractClassProcessor implements QueuedTransf
 	private def void doTransformConstructorsConsistencyChecks(MutableClassDeclaration annotatedClass, TypeMap typeMap,
 		BodySetter bodySetter, extension TransformationContext context) {
 
-		// check that factory method is called for object construction
-		if (!annotatedClass.isTraitClass && annotatedClass.getFactoryMethodRuleInfo(null, context) !== null) {
+		// check that factory method is called for object construction (if checks are enabled)
+		val factoryMethodRuleInfo = if (!annotatedClass.isTraitClass)
+				annotatedClass.getFactoryMethodRuleInfo(null, context)
+		if (factoryMethodRuleInfo !== null && factoryMethodRuleInfo.checkConstruction) {
 
 			// only need once in root class for factory method rule, so parent must not have factory method rule declared
 			if ((annotatedClass.extendedClass?.type as ClassDeclaration)?.getFactoryMethodRuleInfo(null, context) ===
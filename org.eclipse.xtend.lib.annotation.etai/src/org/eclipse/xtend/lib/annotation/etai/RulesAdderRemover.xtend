@@ -511,6 +511,25 @@ abstract class AdderRemoverRuleProcessor extends GetterSetterRuleProcessor {
 
 		}
 
+		/**
+		 * <p>Returns the given code for changing the collection/map, which is extended by the invalidation of
+		 * the collection snapshot (if used).</p>
+		 */
+		protected def String getChangeCodeConsideringCollectionSnapshot(String changeCode) {
+
+			val collectionSnapshotCode = getCollectionSnapshotCode(fieldDeclaration, context)
+			if (collectionSnapshotCode == "null")
+				return changeCode
+
+			return '''«collectionSnapshotCode».invalidate();
+				try {
+					«changeCode»
+				} finally {
+					«collectionSnapshotCode».invalidate();
+				}'''
+
+		}
+
 		protected def TypeReference getContainerTypeArgument(int index) {
 			return getContainerTypeArgument(fieldDeclaration, index, context)
 		}
@@ -519,6 +538,13 @@ abstract class AdderRemoverRuleProcessor extends GetterSetterRuleProcessor {
 			return getContainerTypeArgumentAsString(fieldDeclaration, index, context)
 		}
 
+		/**
+		 * <p>Returns the code for accessing the field's collection/map directly.</p>
+		 */
+		protected def String getFieldAccessCode() {
+			return '''«IF !fieldDeclaration.isStatic»this.«ENDIF»«fieldDeclaration.simpleName»'''
+		}
+
 	}
 
 	/**
@@ -554,6 +580,49 @@ abstract class AdderRemoverRuleProcessor extends GetterSetterRuleProcessor {
 
 	}
 
+	/**
+	 * <p>Returns if adder and remover methods of the given field can be implemented by direct calls on the
+	 * collection/map, i.e., without the generic (and allocating) implementation in
+	 * {@link org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils}.</p>
+	 *
+	 * <p>This is the case, if there are no change methods (of setter, adder or remover), no "not null" checks,
+	 * no bidirectional connection and no synchronization lock for the field. Also, the field's type must
+	 * specify its type arguments without wild cards.</p>
+	 */
+	static def <T extends TypeLookup & FileLocations & TypeReferenceProvider> boolean isDirectAccessSupported(
+		FieldDeclaration fieldDeclaration, extension T context) {
+
+		if (fieldDeclaration.hasAnnotation(NotNullRule) || fieldDeclaration.hasAnnotation(BidirectionalRule) ||
+			fieldDeclaration.hasAnnotation(SynchronizationRule))
+			return false
+
+		if (fieldDeclaration.type === null || fieldDeclaration.type.actualTypeArguments.size == 0 ||
+			fieldDeclaration.type.actualTypeArguments.exists[isWildCard])
+			return false
+
+		if (fieldDeclaration.hasAnnotation(SetterRule) &&
+			(SetterRuleProcessor.getMethodBeforeChange(fieldDeclaration, null, context) !== null ||
+				SetterRuleProcessor.getMethodAfterChange(fieldDeclaration, null, context) !== null))
+			return false
+
+		if (fieldDeclaration.hasAnnotation(AdderRule) &&
+			(AdderRuleProcessor.getMethodBeforeElementAdd(fieldDeclaration, null, context) !== null ||
+				AdderRuleProcessor.getMethodBeforeAdd(fieldDeclaration, null, context) !== null ||
+				AdderRuleProcessor.getMethodAfterElementAdd(fieldDeclaration, null, context) !== null ||
+				AdderRuleProcessor.getMethodAfterAdd(fieldDeclaration, null, context) !== null))
+			return false
+
+		if (fieldDeclaration.hasAnnotation(RemoverRule) &&
+			(RemoverRuleProcessor.getMethodBeforeElementRemove(fieldDeclaration, null, context) !== null ||
+				RemoverRuleProcessor.getMethodBeforeRemove(fieldDeclaration, null, context) !== null ||
+				RemoverRuleProcessor.getMethodAfterElementRemove(fieldDeclaration, null, context) !== null ||
+				RemoverRuleProcessor.getMethodAfterRemove(fieldDeclaration, null, context) !== null))
+			return false
+
+		return true
+
+	}
+
 	/**
 	 * <p>This method embeds a method call for collection events (code) in the appropriate object.</p>
 	 */
@@ -654,12 +723,10 @@ class AdderRuleProcessor extends AdderRemoverRuleProcessor {
 
 			val notNullRuleInfo = getNotNullRuleInfo
 			val oppositeFieldName = getOppositeFieldName(fieldDeclaration, context)
-			val synchronizationLockName = getSynchronizationLockName(fieldDeclaration, context)
 
-			if (this instanceof MethodDeclarationFromAdder_PutTo<?> ||
-				this instanceof MethodDeclarationFromAdder_PutAllTo<?>)
-				return '''«preCode»
-					return org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.put«IF this instanceof MethodDeclarationFromAdder_PutAllTo<?>»All«ENDIF»ToMap(
+			val changeCode = if (this instanceof MethodDeclarationFromAdder_PutTo<?> ||
+					this instanceof MethodDeclarationFromAdder_PutAllTo<?>)
+					'''return org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.put«IF this instanceof MethodDeclarationFromAdder_PutAllTo<?>»All«ENDIF»ToMap(
 						«IF !fieldDeclaration.isStatic»this.«ENDIF»«fieldDeclaration.simpleName»,
 						«elements»,
 						«getMethodCallBeforeElementAdd(fieldDeclaration, context)»,
@@ -671,10 +738,9 @@ class AdderRuleProcessor extends AdderRemoverRuleProcessor {
 						«IF !(this instanceof MethodDeclarationFromAdder_PutAllTo<?>)»null,«ENDIF»
 						«IF notNullRuleInfo !== null»«notNullRuleInfo.notNullKeyOrElement»«ELSE»false«ENDIF»,
 						«IF notNullRuleInfo !== null»«notNullRuleInfo.notNullValue»«ELSE»false«ENDIF»,
-						«IF !synchronizationLockName.isNullOrEmpty»"«synchronizationLockName»"«ELSE»null«ENDIF»);'''
-			else
-				return '''«preCode»
-					return org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.addTo«IF index === null && context.newTypeReference(List).type.isAssignableFromConsiderUnprocessed(fieldDeclaration.type?.type, context)»List«ELSE»Collection«ENDIF»(
+						«getSynchronizationLockCode(fieldDeclaration, context)»);'''
+				else
+					'''return org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.addTo«IF index === null && context.newTypeReference(List).type.isAssignableFromConsiderUnprocessed(fieldDeclaration.type?.type, context)»List«ELSE»Collection«ENDIF»(
 						«IF !fieldDeclaration.isStatic»this.«ENDIF»«fieldDeclaration.simpleName»,
 						«elements», «IF index !== null || !context.newTypeReference(List).type.isAssignableFromConsiderUnprocessed(fieldDeclaration.type?.type, context)»«IF index === null»0«ELSE»«index»«ENDIF»,«ENDIF»
 						«getMethodCallBeforeElementAdd(fieldDeclaration, context)»,
@@ -685,7 +751,10 @@ class AdderRuleProcessor extends AdderRemoverRuleProcessor {
 						«IF fieldDeclaration.isStatic»null«ELSE»«getThisCode(fieldDeclaration)»«ENDIF»,
 						«IF notNullRuleInfo !== null»«notNullRuleInfo.notNullKeyOrElement»«ELSE»false«ENDIF»,
 						«IF !oppositeFieldName.isNullOrEmpty»"«oppositeFieldName»"«ELSE»null«ENDIF»,
-						«IF !synchronizationLockName.isNullOrEmpty»"«synchronizationLockName»"«ELSE»null«ENDIF»);'''
+						«getSynchronizationLockCode(fieldDeclaration, context)»);'''
+
+			return '''«preCode»
+				«getChangeCodeConsideringCollectionSnapshot(changeCode)»'''
 
 		}
 
@@ -720,6 +789,9 @@ class AdderRuleProcessor extends AdderRemoverRuleProcessor {
 
 		override String getBasicImplementation() {
 
+			if (isDirectAccessSupported(fieldDeclaration, context))
+				return getChangeCodeConsideringCollectionSnapshot('''return «fieldAccessCode».add($element);''')
+
 			return getBasicImplementation('''java.util.List<«getContainerTypeArgumentAsString(0)»> $elements = new java.util.ArrayList<«getContainerTypeArgumentAsString(0)»>();
 					$elements.add($element);''', "$elements", null)
 
@@ -751,6 +823,10 @@ class AdderRuleProcessor extends AdderRemoverRuleProcessor {
 
 		override String getBasicImplementation() {
 
+			if (isDirectAccessSupported(fieldDeclaration, context))
+				return getChangeCodeConsideringCollectionSnapshot('''«fieldAccessCode».add($index, $element);
+					return true;''')
+
 			return getBasicImplementation('''java.util.List<«getContainerTypeArgumentAsString(0)»> $elements = new java.util.ArrayList<«getContainerTypeArgumentAsString(0)»>();
 					$elements.add($element);''', "$elements", "$index")
 
@@ -787,8 +863,16 @@ class AdderRuleProcessor extends AdderRemoverRuleProcessor {
 		}
 
 		override String getBasicImplementation() {
+
+			// no change (and no return value) if exactly the same value is already stored for the key
+			if (isDirectAccessSupported(fieldDeclaration, context))
+				return getChangeCodeConsideringCollectionSnapshot('''if («fieldAccessCode».containsKey($key) && «fieldAccessCode».get($key) == $value)
+						return null;
+					return «fieldAccessCode».put($key, $value);''')
+
 			return getBasicImplementation('''java.util.Map<«getContainerTypeArgumentAsString(0)», «getContainerTypeArgumentAsString(1)»> $m = new java.util.HashMap<«getContainerTypeArgumentAsString(0)», «getContainerTypeArgumentAsString(1)»>();
 					$m.put($key, $value);''', "$m", null)
+
 		}
 
 	}
@@ -824,7 +908,12 @@ class AdderRuleProcessor extends AdderRemoverRuleProcessor {
 		}
 
 		override String getBasicImplementation() {
+
+			if (isDirectAccessSupported(fieldDeclaration, context))
+				return getChangeCodeConsideringCollectionSnapshot('''return «fieldAccessCode».addAll($c);''')
+
 			return getBasicImplementation("", "$c", null)
+
 		}
 
 	}
@@ -852,7 +941,12 @@ class AdderRuleProcessor extends AdderRemoverRuleProcessor {
 		}
 
 		override String getBasicImplementation() {
+
+			if (isDirectAccessSupported(fieldDeclaration, context))
+				return getChangeCodeConsideringCollectionSnapshot('''return «fieldAccessCode».addAll($index, $c);''')
+
 			return getBasicImplementation("", "$c", "$index")
+
 		}
 
 	}
@@ -889,7 +983,19 @@ class AdderRuleProcessor extends AdderRemoverRuleProcessor {
 		}
 
 		override String getBasicImplementation() {
+
+			// only entries with a new key or a different value cause a change
+			if (isDirectAccessSupported(fieldDeclaration, context))
+				return getChangeCodeConsideringCollectionSnapshot('''boolean $changed = false;
+					for (java.util.Map.Entry<? extends «getContainerTypeArgumentAsString(0)», ? extends «getContainerTypeArgumentAsString(1)»> $entry : $m.entrySet())
+						if (!«fieldAccessCode».containsKey($entry.getKey()) || «fieldAccessCode».get($entry.getKey()) != $entry.getValue()) {
+							«fieldAccessCode».put($entry.getKey(), $entry.getValue());
+							$changed = true;
+						}
+					return $changed;''')
+
 			return getBasicImplementation("", "$m", null)
+
 		}
 
 	}
@@ -1391,10 +1497,8 @@ class RemoverRuleProcessor extends AdderRemoverRuleProcessor {
 			boolean supportOpposite, Boolean removeDuplicates) {
 
 			val oppositeFieldName = getOppositeFieldName(fieldDeclaration, context)
-			val synchronizationLockName = getSynchronizationLockName(fieldDeclaration, context)
 
-			return '''«preCode»
-				return org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.«methodName»(
+			val changeCode = '''return org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.«methodName»(
 					«fieldDeclaration.simpleName»,
 					«IF elementName !== null»«elementName»,«ENDIF»
 					«IF index !== null»«index»,«ENDIF»
@@ -1407,7 +1511,10 @@ class RemoverRuleProcessor extends AdderRemoverRuleProcessor {
 					«IF fieldDeclaration.isStatic»null«ELSE»«getThisCode(fieldDeclaration)»«ENDIF»,
 					«IF supportOpposite»«IF !oppositeFieldName.isNullOrEmpty»"«oppositeFieldName»"«ELSE»null«ENDIF»,«ENDIF»
 					«IF methodName == "removeFromMap"»null ,«ENDIF»
-					«IF !synchronizationLockName.isNullOrEmpty»"«synchronizationLockName»"«ELSE»null«ENDIF»);'''
+					«getSynchronizationLockCode(fieldDeclaration, context)»);'''
+
+			return '''«preCode»
+				«getChangeCodeConsideringCollectionSnapshot(changeCode)»'''
 
 		}
 
@@ -1468,6 +1575,9 @@ class RemoverRuleProcessor extends AdderRemoverRuleProcessor {
 
 		override String getBasicImplementation() {
 
+			if (isDirectAccessSupported(fieldDeclaration, context))
+				return getChangeCodeConsideringCollectionSnapshot('''return «fieldAccessCode».remove(«getFirstParameterName()»);''')
+
 			if (context.newTypeReference(Map).type.isAssignableFromConsiderUnprocessed(fieldDeclaration.type?.type,
 				context))
 				return getBasicImplementation('''java.util.Set<«getContainerTypeArgumentAsString(0)»> $elements = new java.util.HashSet<«getContainerTypeArgumentAsString(0)»>();
@@ -1513,8 +1623,13 @@ class RemoverRuleProcessor extends AdderRemoverRuleProcessor {
 		}
 
 		override String getBasicImplementation() {
-			return getBasicImplementation('''java.util.List<«getContainerTypeArgumentAsString(0)»> $elements = new java.util.ArrayList<«getContainerTypeArgumentAsString(0)»>(«fieldDeclaration.simpleName»);''',
-				"removeFromCollection", "null", "$index", true, false)
+
+			if (isDirectAccessSupported(fieldDeclaration, context))
+				return getChangeCodeConsideringCollectionSnapshot('''«fieldAccessCode».remove($index);
+					return true;''')
+
+			return getBasicImplementation("", "removeFromCollection", "null", "$index", true, false)
+
 		}
 
 	}
@@ -1550,7 +1665,12 @@ class RemoverRuleProcessor extends AdderRemoverRuleProcessor {
 		}
 
 		override String getBasicImplementation() {
+
+			if (isDirectAccessSupported(fieldDeclaration, context))
+				return getChangeCodeConsideringCollectionSnapshot('''return «fieldAccessCode».removeAll($c);''')
+
 			return getBasicImplementation("", "removeFromCollection", "$c", "null", true, true)
+
 		}
 
 	}
@@ -1580,6 +1700,12 @@ class RemoverRuleProcessor extends AdderRemoverRuleProcessor {
 
 		override String getBasicImplementation() {
 
+			if (isDirectAccessSupported(fieldDeclaration, context))
+				return getChangeCodeConsideringCollectionSnapshot('''if («fieldAccessCode».isEmpty())
+						return false;
+					«fieldAccessCode».clear();
+					return true;''')
+
 			if (context.newTypeReference(Map).type.isAssignableFromConsiderUnprocessed(fieldDeclaration.type?.type,
 				context))
 				return getBasicImplementation("", "clearMap", null, null, false, null)
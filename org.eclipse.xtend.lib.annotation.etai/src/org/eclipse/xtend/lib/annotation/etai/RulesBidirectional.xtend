@@ -74,6 +74,8 @@ annotation BidirectionalRule {
  */
 class BidirectionalRuleProcessor extends RuleProcessor<FieldDeclaration, MutableFieldDeclaration> {
 
+	final static public String OPPOSITE_METHOD_NOT_FOUND_ERROR = "Opposite reference of field \"%s\" cannot be maintained because class \"%s\" has no suitable setter/adder/remover"
+
 	static class BidirectionalRuleInfo {
 
 		public String oppositeField = null
@@ -3,9 +3,7 @@ package org.eclipse.xtend.lib.annotation.etai
 import java.lang.annotation.ElementType
 import java.lang.annotation.Target
 import java.util.ArrayList
-import java.util.HashMap
 import java.util.List
-import java.util.Map
 import org.eclipse.xtend.lib.macro.Active
 import org.eclipse.xtend.lib.macro.ValidationContext
 import org.eclipse.xtend.lib.macro.declaration.ClassDeclaration
@@ -124,6 +122,65 @@ annotation FactoryMethodRule {
 	 */
 	String returnTypeAdaptionRule = ""
 
+	/**
+	 * <p>Determines if the generated code checks that objects are only constructed via factory method
+	 * and that all trait class objects have been constructed. These checks are assertions, i.e., they
+	 * are only performed if assertions are enabled.</p>
+	 * 
+	 * <p>If set to <code>false</code>, a minimal factory method is generated, which only calls the
+	 * constructor, the construction of trait class objects and the initialization method. This
+	 * is intended for production code.</p>
+	 * 
+	 * <p>The value will be also applied for all derived classes. It cannot be
+	 * changed by a derived class.</p>
+	 */
+	boolean checkConstruction = true
+
+	/**
+	 * <p>If set to a value greater than zero, objects created by the factory can be recycled. The generated
+	 * factory class provides a method <code>release</code>, which resets the given object via
+	 * the method specified by <code>resetMethod</code> and puts it into a pool. Factory methods
+	 * without parameters will then hand out pooled objects (after calling the init method) before
+	 * constructing new ones.</p>
+	 * 
+	 * <p>The pool is confined to the current thread and holds up to the given number of objects, i.e.,
+	 * an object released on another thread than the one it has been created on is only recycled by
+	 * the releasing thread. Releasing an object, which is already in the pool, has no effect.</p>
+	 * 
+	 * <p>Delegation objects of trait classes with constructor methods are constructed again (via
+	 * constructor methods without parameters) when a pooled object is recycled. The reset method is responsible for restoring the
+	 * remaining state of the object (including the state of other trait class objects) as if it
+	 * has been constructed.</p>
+	 * 
+	 * <p>Pooling requires a factory instance.</p>
+	 * 
+	 * @see FactoryMethodRule#factoryInstance
+	 * @see FactoryMethodRule#resetMethod
+	 */
+	int poolSize = 0
+
+	/**
+	 * <p>The name of the method that resets an object before it is put into the pool.</p>
+	 * 
+	 * <p>The reset method must be a non-static method without parameters and <code>void</code> return type.</p>
+	 * 
+	 * @see FactoryMethodRule#poolSize
+	 */
+	String resetMethod = ""
+
+	/**
+	 * <p>If a value is set, an additional (bulk) factory method with this name is generated for each
+	 * factory method. It gets the number of objects to create as first parameter followed by the
+	 * parameters of the factory method (which are used for all objects). The created objects are returned
+	 * as array.</p>
+	 * 
+	 * <p>The bulk factory method sets up the construction checks only once for all objects.</p>
+	 * 
+	 * <p>If the bulk factory method name contains a <code>%</code> symbol, this symbol will be replaced
+	 * by the currently adapted class name.</p>
+	 */
+	String bulkFactoryMethod = ""
+
 }
 
 /**
@@ -204,25 +261,20 @@ class FactoryMethodRuleProcessor extends RuleProcessor<ClassDeclaration, Mutable
 
 	/**
 	 * <p>This structure shall store at runtime if factory method are used for the construction of objects.</p>
+	 * 
+	 * <p>The registry is confined to the current thread, so no synchronization is required.</p>
 	 */
-	static final protected Map<Thread, List<Object>> MAP_OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY = new HashMap<Thread, List<Object>>
+	static final protected ThreadLocal<List<Object>> OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY = ThreadLocal.
+		withInitial[new ArrayList<Object>]
 
 	/**
 	 * <p>This method must be called by a factory method in order to be allowed to construct
 	 * the next object that would requires a factory method in order to be constructed.</p>
 	 */
-	static synchronized def boolean registerObjectConstructionViaFactory() {
-
-		val thread = Thread.currentThread
-
-		var List<Object> registeredForThread = MAP_OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY.get(thread)
-		if (registeredForThread === null) {
-			registeredForThread = new ArrayList<Object>
-			MAP_OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY.put(thread, registeredForThread)
-		}
+	static def boolean registerObjectConstructionViaFactory() {
 
 		// add null to the end (object has not been created, yet)
-		registeredForThread.add(null)
+		OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY.get.add(null)
 
 	}
 
@@ -240,10 +292,10 @@ class FactoryMethodRuleProcessor extends RuleProcessor<ClassDeclaration, Mutable
 	 * trigger an error. However, it might be detected for the outside construction because all
 	 * construction checks will be performed after calling the regular constructor.</p>
 	 */
-	static synchronized def boolean checkObjectConstructionViaFactory(Object checkObject) {
+	static def boolean checkObjectConstructionViaFactory(Object checkObject) {
 
-		val registeredForThread = MAP_OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY.get(Thread.currentThread)
-		if (registeredForThread === null)
+		val registeredForThread = OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY.get
+		if (registeredForThread.empty)
 			return false
 
 		// current object must override null in list
@@ -260,20 +312,33 @@ class FactoryMethodRuleProcessor extends RuleProcessor<ClassDeclaration, Mutable
 	}
 
 	/**
-	 * <p>This method must be called by a factory method after an object has been constructed.</p>
+	 * <p>This method can be called by a (bulk) factory method after an object has been constructed in
+	 * order to be allowed to construct the next object without another registration.</p>
 	 */
-	static synchronized def boolean unregisterObjectConstructionViaFactory() {
+	static def boolean renewObjectConstructionViaFactory() {
+
+		val registeredForThread = OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY.get
+		if (registeredForThread.empty)
+			return false
+
+		// reset latest object (next object has not been created, yet)
+		registeredForThread.set(registeredForThread.size - 1, null)
 
-		val thread = Thread.currentThread
+		return true
+
+	}
+
+	/**
+	 * <p>This method must be called by a factory method after an object has been constructed.</p>
+	 */
+	static def boolean unregisterObjectConstructionViaFactory() {
 
-		val registeredForThread = MAP_OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY.get(thread)
-		if (registeredForThread === null)
+		val registeredForThread = OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY.get
+		if (registeredForThread.empty)
 			return false
 
 		// remove latest object
 		registeredForThread.remove(registeredForThread.size - 1)
-		if (registeredForThread.size === 0)
-			MAP_OBJECT_CONSTRUCTION_VIA_FACTORY_METHOD_REGISTRY.remove(thread)
 
 		return true
 
@@ -292,6 +357,10 @@ class FactoryMethodRuleProcessor extends RuleProcessor<ClassDeclaration, Mutable
 		public TypeDeclaration factoryInterface = null
 		public String factoryInterfaceVariable = null
 		public String returnTypeAdaptionRule = null
+		public boolean checkConstruction = true
+		public int poolSize = 0
+		public String resetMethod = null
+		public String bulkFactoryMethod = null
 
 	}
 
@@ -322,6 +391,10 @@ class FactoryMethodRuleProcessor extends RuleProcessor<ClassDeclaration, Mutable
 			val factoryInterface = annotationFactoryMethodRule.getClassValue("factoryInterface")
 			val factoryInterfaceVariable = annotationFactoryMethodRule.getStringValue("factoryInterfaceVariable")
 			val returnTypeAdaptionRule = annotationFactoryMethodRule.getStringValue("returnTypeAdaptionRule")
+			val checkConstruction = annotationFactoryMethodRule.getBooleanValue("checkConstruction")
+			val poolSize = annotationFactoryMethodRule.getIntValue("poolSize")
+			val resetMethod = annotationFactoryMethodRule.getStringValue("resetMethod")
+			val bulkFactoryMethod = annotationFactoryMethodRule.getStringValue("bulkFactoryMethod")
 
 			if (factoryMethod !== null)
 				result.factoryMethod = factoryMethod
@@ -335,8 +408,14 @@ class FactoryMethodRuleProcessor extends RuleProcessor<ClassDeclaration, Mutable
 				result.factoryInterfaceVariable = factoryInterfaceVariable
 			if (returnTypeAdaptionRule !== null)
 				result.returnTypeAdaptionRule = returnTypeAdaptionRule
+			if (resetMethod !== null)
+				result.resetMethod = resetMethod
+			if (bulkFactoryMethod !== null)
+				result.bulkFactoryMethod = bulkFactoryMethod
 			result.factoryInstanceFinal = factoryInstanceFinal
 			result.factoryClassDerived = factoryClassDerived
+			result.checkConstruction = checkConstruction
+			result.poolSize = poolSize
 
 			return result
 
@@ -414,6 +493,11 @@ class FactoryMethodRuleProcessor extends RuleProcessor<ClassDeclaration, Mutable
 		if (factoryMethodRuleInfo.factoryMethod.nullOrEmpty)
 			xtendClass.addError('''An empty factory method name is not allowed''')
 
+		// bulk factory method name must differ from factory method name
+		if (!factoryMethodRuleInfo.bulkFactoryMethod.nullOrEmpty &&
+			factoryMethodRuleInfo.bulkFactoryMethod == factoryMethodRuleInfo.factoryMethod)
+			xtendClass.addError('''The bulk factory method name must differ from the factory method name''')
+
 		if (factoryMethodRuleInfo.factoryInterface !== null &&
 			factoryMethodRuleInfo.factoryInterface.qualifiedName != Object.canonicalName) {
 
@@ -451,6 +535,28 @@ class FactoryMethodRuleProcessor extends RuleProcessor<ClassDeclaration, Mutable
 
 		}
 
+		// pooling requires factory instance and reset method
+		if (factoryMethodRuleInfo.poolSize < 0)
+			xtendClass.addError('''The pool size must not be negative''')
+
+		if (factoryMethodRuleInfo.poolSize > 0) {
+
+			if (factoryMethodRuleInfo.factoryInstance.nullOrEmpty)
+				xtendClass.
+					addError('''If a pool size is specified, also the factory instance name must be specified''')
+
+			if (factoryMethodRuleInfo.resetMethod.nullOrEmpty)
+				xtendClass.addError('''If a pool size is specified, also a reset method must be specified''')
+			else if (!annotatedClass.getMethodClosure(null, null, true, false, false, true, false, context).exists [
+				it.simpleName == factoryMethodRuleInfo.resetMethod && it.parameters.size == 0 &&
+					it.returnType.isVoid &&
+					(it.visibility == Visibility::PUBLIC || it.visibility == Visibility::PROTECTED)
+			])
+				xtendClass.
+					addError('''A non-static reset method named "«factoryMethodRuleInfo.resetMethod»" without parameters and void return type must be declared and visible within this class''')
+
+		}
+
 	}
 
 }
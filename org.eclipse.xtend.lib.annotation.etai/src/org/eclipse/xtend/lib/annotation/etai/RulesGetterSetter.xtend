@@ -6,8 +6,7 @@ import java.util.ArrayList
 import java.util.Collection
 import java.util.List
 import org.eclipse.xtend.lib.annotation.etai.NotNullRuleProcessor.NotNullRuleInfo
-import org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.MethodCallValueChangeBoolean
-import org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.MethodCallValueChangeVoid
+import org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.CollectionSnapshot
 import org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.TypeErasureMethod
 import org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.TypeMatchingStrategy
 import org.eclipse.xtend.lib.macro.Active
@@ -18,6 +17,7 @@ import org.eclipse.xtend.lib.macro.declaration.ClassDeclaration
 import org.eclipse.xtend.lib.macro.declaration.ExecutableDeclaration
 import org.eclipse.xtend.lib.macro.declaration.FieldDeclaration
 import org.eclipse.xtend.lib.macro.declaration.MethodDeclaration
+import org.eclipse.xtend.lib.macro.declaration.MutableClassDeclaration
 import org.eclipse.xtend.lib.macro.declaration.MutableFieldDeclaration
 import org.eclipse.xtend.lib.macro.declaration.MutableMethodDeclaration
 import org.eclipse.xtend.lib.macro.declaration.NamedElement
@@ -52,7 +52,17 @@ enum CollectionGetterPolicy {
 	/**
 	 * <p>The copied (read-only) collection/map is returned.</p>
 	 */
-	UNMODIFIABLE_COPY
+	UNMODIFIABLE_COPY,
+
+	/**
+	 * <p>The copied (read-only) collection/map is returned. The copy is kept and returned
+	 * again until the collection/map is changed via generated adder/remover or the
+	 * field is set to another collection/map.</p>
+	 * 
+	 * <p>Changes that are not applied via generated adders/removers (e.g. changing
+	 * the collection/map directly) are not detected.</p>
+	 */
+	SNAPSHOT
 
 }
 
@@ -365,6 +375,35 @@ abstract class GetterSetterRuleProcessor extends RuleProcessor<FieldDeclaration,
 
 	}
 
+	/**
+	 * <p>Returns the code which refers to the synchronization lock for this field (is a typed "null" if not specified,
+	 * so calls cannot be ambiguous regarding the deprecated overloads taking a lock name).</p>
+	 */
+	static def String getSynchronizationLockCode(FieldDeclaration fieldDeclaration, extension TypeLookup context) {
+
+		if (getSynchronizationLockName(fieldDeclaration, context).isNullOrEmpty)
+			return "(org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.SynchronizationLock) null"
+
+		return SynchronizationRuleProcessor::getSynchronizationLockFieldName(fieldDeclaration)
+
+	}
+
+	/**
+	 * <p>Returns the code which refers to the collection snapshot for this field (is "null" if not used).</p>
+	 * 
+	 * @see CollectionGetterPolicy#SNAPSHOT
+	 */
+	static def String getCollectionSnapshotCode(FieldDeclaration fieldDeclaration, extension TypeLookup context) {
+
+		if (!fieldDeclaration.hasAnnotation(GetterRule) ||
+			GetterRuleProcessor::getGetterInfo(fieldDeclaration, context).collectionPolicy !=
+				CollectionGetterPolicy.SNAPSHOT)
+			return "null"
+
+		return '''«IF !fieldDeclaration.isStatic»this.«ENDIF»«GetterRuleProcessor::getCollectionSnapshotFieldName(fieldDeclaration)»'''
+
+	}
+
 	/**
 	 * <p>Returns the code which shall be used to refer to "this" (is "$extendedThis()" within trait classes).</p>
 	 */
@@ -484,6 +523,8 @@ abstract class GetterSetterRuleProcessor extends RuleProcessor<FieldDeclaration,
  */
 class GetterRuleProcessor extends GetterSetterRuleProcessor {
 
+	final static public String COLLECTION_SNAPSHOT_FIELD_NAME_PREFIX = "$collectionSnapshot$"
+
 	static class GetterRuleInfo extends GetterSetterRuleInfo {
 
 		public CollectionGetterPolicy collectionPolicy = CollectionGetterPolicy.UNMODIFIABLE
@@ -528,7 +569,6 @@ class GetterRuleProcessor extends GetterSetterRuleProcessor {
 		override String getBasicImplementation() {
 
 			val notNullRuleInfo = getNotNullRuleInfo
-			val synchronizationLockName = getSynchronizationLockName(fieldDeclaration, context)
 
 			return '''return org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.getValue(
 					«IF !fieldDeclaration.isStatic»this.«ENDIF»«fieldDeclaration.simpleName»,
@@ -537,7 +577,8 @@ class GetterRuleProcessor extends GetterSetterRuleProcessor {
 					«IF notNullRuleInfo !== null»«notNullRuleInfo.notNullSelf»«ELSE»false«ENDIF»,
 					«IF notNullRuleInfo !== null»«notNullRuleInfo.notNullKeyOrElement»«ELSE»false«ENDIF»,
 					«IF notNullRuleInfo !== null»«notNullRuleInfo.notNullValue»«ELSE»false«ENDIF»,
-					«IF !synchronizationLockName.isNullOrEmpty»"«synchronizationLockName»"«ELSE»null«ENDIF»);'''
+					«getSynchronizationLockCode(fieldDeclaration, context)»«IF collectionPolicy == CollectionGetterPolicy.SNAPSHOT»,
+					«getCollectionSnapshotCode(fieldDeclaration, context)»«ENDIF»);'''
 
 		}
 
@@ -547,6 +588,41 @@ class GetterRuleProcessor extends GetterSetterRuleProcessor {
 		GetterRule
 	}
 
+	/**
+	 * <p>Returns the name of the field, which holds the collection snapshot for the given field.</p>
+	 */
+	static def String getCollectionSnapshotFieldName(FieldDeclaration annotatedField) {
+
+		return COLLECTION_SNAPSHOT_FIELD_NAME_PREFIX + annotatedField.simpleName
+
+	}
+
+	/**
+	 * <p>Adds the field, which holds the collection snapshot for the given field.</p>
+	 * 
+	 * @see CollectionGetterPolicy#SNAPSHOT
+	 */
+	static def void addCollectionSnapshotField(MutableFieldDeclaration annotatedField,
+		extension TransformationContext context) {
+
+		val snapshotField = (annotatedField.declaringType as MutableClassDeclaration).addField(
+			annotatedField.collectionSnapshotFieldName) [
+
+			static = annotatedField.static
+			final = true
+			visibility = Visibility::PRIVATE
+			type = CollectionSnapshot.newTypeReference
+			initializer = '''new «CollectionSnapshot.canonicalName»()'''
+
+			// documentation
+			docComment = '''This field holds the collection snapshot for {@link #«annotatedField.simpleName»}.'''
+
+		]
+
+		snapshotField.markAsRead
+
+	}
+
 	/**
 	 * <p>Retrieves information from annotation (@GetterRule).</p>
 	 */
@@ -616,29 +692,31 @@ class SetterRuleProcessor extends GetterSetterRuleProcessor {
 
 			val notNullRuleInfo = getNotNullRuleInfo
 			val oppositeFieldName = getOppositeFieldName(fieldDeclaration, context)
-			val synchronizationLockName = getSynchronizationLockName(fieldDeclaration, context)
-
-			return '''return org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.setValue(
-					«IF !fieldDeclaration.isStatic»this.«ENDIF»«fieldDeclaration.simpleName», $«fieldDeclaration.simpleName»,
-					new org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.MethodCallBoolean() {
-						@Override
-							public boolean call() {
-								return «fieldDeclaration.declaringType.qualifiedName».«IF !fieldDeclaration.isStatic»this.«ENDIF»«fieldDeclaration.simpleName» != $«fieldDeclaration.simpleName»;
-							}
-					},
-					new org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.MethodCallVoid() {
-						@Override
-							public void call() {
-								«fieldDeclaration.declaringType.qualifiedName».«IF !fieldDeclaration.isStatic»this.«ENDIF»«fieldDeclaration.simpleName» = $«fieldDeclaration.simpleName»;
-							}
-					},
-					«getMethodCallBeforeChange(fieldDeclaration, context)»,
-					«getMethodCallAfterChange(fieldDeclaration, context)»,
-					"«fieldDeclaration.simpleName»",
-					«IF fieldDeclaration.isStatic»null«ELSE»«getThisCode(fieldDeclaration)»«ENDIF»,
-					«IF notNullRuleInfo !== null»«notNullRuleInfo.notNullSelf»«ELSE»false«ENDIF»,
-					«IF !oppositeFieldName.isNullOrEmpty»"«oppositeFieldName»"«ELSE»null«ENDIF»,
-					«IF !synchronizationLockName.isNullOrEmpty»"«synchronizationLockName»"«ELSE»null«ENDIF»);'''
+			val fieldAccessCode = '''«IF !fieldDeclaration.isStatic»this.«ENDIF»«fieldDeclaration.simpleName»'''
+			val newValueCode = "$" + fieldDeclaration.simpleName
+			val oldValueCode = "$old" + fieldDeclaration.simpleName.toFirstUpper
+			val currentObjectCode = if(fieldDeclaration.isStatic) "null" else getThisCode(fieldDeclaration)
+
+			// the change is implemented directly (no objects for callbacks must be created on each call)
+			return '''if (!org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.beginChange("«fieldDeclaration.simpleName»", «currentObjectCode», «getSynchronizationLockCode(fieldDeclaration, context)»))
+					return false;
+				try {
+					«IF notNullRuleInfo !== null && notNullRuleInfo.notNullSelf»
+						assert «newValueCode» != null : String.format(org.eclipse.xtend.lib.annotation.etai.NotNullRuleProcessor.VALUE_NULL_SETTER_ERROR, "«fieldDeclaration.simpleName»");
+					«ENDIF»
+					if («fieldAccessCode» == «newValueCode»)
+						return false;
+					«fieldDeclaration.type.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context)» «oldValueCode» = «fieldAccessCode»;
+					«getMethodCallBeforeChange(fieldDeclaration, oldValueCode, newValueCode, context)»
+					«fieldAccessCode» = «newValueCode»;
+					«IF !oppositeFieldName.isNullOrEmpty»
+						org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.changeOppositeReference(«oldValueCode», «newValueCode», "«oppositeFieldName»", «currentObjectCode»);
+					«ENDIF»
+					«getMethodCallAfterChange(fieldDeclaration, oldValueCode, newValueCode, context)»
+					return true;
+				} finally {
+					org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.endChange("«fieldDeclaration.simpleName»", «currentObjectCode», «getSynchronizationLockCode(fieldDeclaration, context)»);
+				}'''
 
 		}
 
@@ -670,22 +748,29 @@ class SetterRuleProcessor extends GetterSetterRuleProcessor {
 	}
 
 	/**
-	 * <p>This method embeds a method call for setter events (code) in the appropriate object.</p>
+	 * <p>This method returns the code (statement) for calling a method on setter events. If the called method
+	 * is able to cancel the change (boolean return value), the generated code will return <code>false</code>
+	 * on cancellation.</p>
 	 */
-	static def String getSetterMethodCallEmbedded(MethodDeclaration methodDeclaration, Class<?> interfaceType,
-		boolean isBoolean, FieldDeclaration fieldDeclaration, String parameters,
+	static def String getSetterMethodCallDirect(MethodDeclaration methodDeclaration, boolean isCancelable,
+		FieldDeclaration fieldDeclaration, String oldValueCode, String newValueCode,
 		extension TypeReferenceProvider context) {
 
 		val methodDeclarationBoolean = (context.primitiveBoolean == methodDeclaration.returnType)
-		val objectTypeString = fieldDeclaration.type.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, true,
-			context)
-		return '''new org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.«interfaceType.simpleName»<«objectTypeString»>() {
-				@Override
-				public «IF isBoolean»boolean«ELSE»void«ENDIF» call(«objectTypeString» oldValue, «objectTypeString» newValue) {
-					«IF isBoolean && methodDeclarationBoolean»return «ENDIF»«methodDeclaration.simpleName»(«parameters»);
-					«IF isBoolean && !methodDeclarationBoolean»return true;«ENDIF»
-				}
-			}'''
+		val parameters = if (methodDeclaration.parameters.length == 0)
+				""
+			else if (methodDeclaration.parameters.length == 1)
+				newValueCode
+			else if (methodDeclaration.parameters.length == 2)
+				'''«oldValueCode», «newValueCode»'''
+			else
+				'''"«fieldDeclaration.simpleName»", «oldValueCode», «newValueCode»'''
+
+		if (isCancelable && methodDeclarationBoolean)
+			return '''if (!«methodDeclaration.simpleName»(«parameters»))
+					return false;'''
+		else
+			return '''«methodDeclaration.simpleName»(«parameters»);'''
 
 	}
 
@@ -719,22 +804,13 @@ class SetterRuleProcessor extends GetterSetterRuleProcessor {
 	 * <p>Gets the call (string) of the method for event "before change".</p>
 	 */
 	static def <T extends TypeLookup & FileLocations & TypeReferenceProvider> String getMethodCallBeforeChange(
-		FieldDeclaration annotatedField, extension T context) {
+		FieldDeclaration annotatedField, String oldValueCode, String newValueCode, extension T context) {
 
 		val method = getMethodBeforeChange(annotatedField, null, context)
 		if (method === null)
-			return '''null'''
-		else if (method.parameters.length == 0)
-			return getSetterMethodCallEmbedded(method, MethodCallValueChangeBoolean, true, annotatedField, "", context)
-		else if (method.parameters.length == 1)
-			return getSetterMethodCallEmbedded(method, MethodCallValueChangeBoolean, true,
-				annotatedField, '''newValue''', context)
-		else if (method.parameters.length == 2)
-			return getSetterMethodCallEmbedded(method, MethodCallValueChangeBoolean, true,
-				annotatedField, '''oldValue, newValue''', context)
-		else if (method.parameters.length == 3)
-			return getSetterMethodCallEmbedded(method, MethodCallValueChangeBoolean, true,
-				annotatedField, '''"«annotatedField.simpleName»", oldValue, newValue''', context)
+			return ""
+		else if (method.parameters.length <= 3)
+			return getSetterMethodCallDirect(method, true, annotatedField, oldValueCode, newValueCode, context)
 		else
 			throw new IllegalArgumentException('''Unable to call method "«method.simpleName»" before field "«annotatedField.simpleName»" is changed: unknown signature''')
 
@@ -770,22 +846,13 @@ class SetterRuleProcessor extends GetterSetterRuleProcessor {
 	 * <p>Gets the call (string) of the method for event "after change".</p>
 	 */
 	static def <T extends TypeLookup & FileLocations & TypeReferenceProvider> String getMethodCallAfterChange(
-		FieldDeclaration annotatedField, extension T context) {
+		FieldDeclaration annotatedField, String oldValueCode, String newValueCode, extension T context) {
 
 		val method = getMethodAfterChange(annotatedField, null, context)
 		if (method === null)
-			return '''null'''
-		else if (method.parameters.length == 0)
-			return getSetterMethodCallEmbedded(method, MethodCallValueChangeVoid, false, annotatedField, "", context)
-		else if (method.parameters.length == 1)
-			return getSetterMethodCallEmbedded(method, MethodCallValueChangeVoid, false, annotatedField, '''newValue''',
-				context)
-		else if (method.parameters.length == 2)
-			return getSetterMethodCallEmbedded(method, MethodCallValueChangeVoid, false,
-				annotatedField, '''oldValue, newValue''', context)
-		else if (method.parameters.length == 3)
-			return getSetterMethodCallEmbedded(method, MethodCallValueChangeVoid, false,
-				annotatedField, '''"«annotatedField.simpleName»", oldValue, newValue''', context)
+			return ""
+		else if (method.parameters.length <= 3)
+			return getSetterMethodCallDirect(method, false, annotatedField, oldValueCode, newValueCode, context)
 		else
 			throw new IllegalArgumentException('''Unable to call method "«method.simpleName»" after field "«annotatedField.simpleName»" has been changed: unknown signature''')
 
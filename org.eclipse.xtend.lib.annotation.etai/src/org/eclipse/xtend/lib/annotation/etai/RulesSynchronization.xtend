@@ -2,15 +2,50 @@ package org.eclipse.xtend.lib.annotation.etai
 
 import java.lang.annotation.ElementType
 import java.lang.annotation.Target
+import org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.SynchronizationLock
 import org.eclipse.xtend.lib.macro.Active
+import org.eclipse.xtend.lib.macro.TransformationContext
 import org.eclipse.xtend.lib.macro.ValidationContext
 import org.eclipse.xtend.lib.macro.declaration.FieldDeclaration
+import org.eclipse.xtend.lib.macro.declaration.MutableClassDeclaration
 import org.eclipse.xtend.lib.macro.declaration.MutableFieldDeclaration
 import org.eclipse.xtend.lib.macro.declaration.NamedElement
+import org.eclipse.xtend.lib.macro.declaration.Visibility
 import org.eclipse.xtend.lib.macro.services.TypeLookup
 
 import static extension org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.*
 
+/**
+ * <p>Different strategies for locking getter/setter/adder/remover operations.</p>
+ * 
+ * @see SynchronizationRule
+ */
+enum SynchronizationLockStrategy {
+
+	/**
+	 * <p>A fair reentrant read/write lock is used.</p>
+	 */
+	FAIR,
+
+	/**
+	 * <p>A non-fair reentrant read/write lock is used. This can increase the throughput,
+	 * but threads waiting for the lock might not be served in order.</p>
+	 */
+	NON_FAIR,
+
+	/**
+	 * <p>A non-fair reentrant read/write lock is used for setter/adder/remover operations. Getter operations
+	 * are performed optimistically without acquiring a lock (via <code>java.util.concurrent.locks.StampedLock</code>).
+	 * If there has been a concurrent write operation, the getter operation falls back to the read lock.
+	 * This can reduce the overhead for read-mostly fields significantly.</p>
+	 * 
+	 * <p>Getter operations which copy a collection/map (see {@link CollectionGetterPolicy#UNMODIFIABLE_COPY} and
+	 * {@link CollectionGetterPolicy#SNAPSHOT}) always acquire the read lock.</p>
+	 */
+	OPTIMISTIC_READ
+
+}
+
 /**
  * <p>This attribute can be set in order to synchronize getter/setter/adder/remover operations
  * for a field. With the attribute a named for the lock must be specified. This lock name is considered in a global
@@ -19,7 +54,9 @@ import static extension org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils
  * connections. In this case, both sides (fields) should use the same lock name if
  * thread-safe behavior is required.</p>
  * 
- * <p>Internally, fair reentrant read/write locks are used, i.e., multiple getter methods can run in parallel.</p>
+ * <p>Internally, reentrant read/write locks are used, i.e., multiple getter methods can run in parallel.
+ * By default, these locks are fair. This can be changed by the strategy attribute. All fields sharing
+ * the same lock name must also use the same strategy.</p>
  * 
  * @see BidirectionalRule
  */
@@ -32,6 +69,13 @@ annotation SynchronizationRule {
 	 */
 	String value = ""
 
+	/**
+	 * <p>This attribute specifies the strategy of the lock.</p>
+	 * 
+	 * @see SynchronizationLockStrategy
+	 */
+	SynchronizationLockStrategy strategy = SynchronizationLockStrategy.FAIR
+
 }
 
 /**
@@ -44,9 +88,14 @@ annotation SynchronizationRule {
  */
 class SynchronizationRuleProcessor extends RuleProcessor<FieldDeclaration, MutableFieldDeclaration> {
 
+	final static public String SYNCHRONIZATION_LOCK_FIELD_NAME_PREFIX = "$synchronizationLock$"
+
+	final static public String LOCK_STRATEGY_MISMATCH_ERROR = "Lock \"%s\" is used with different strategies"
+
 	static class SynchronizationRuleInfo {
 
 		public String lockName = null
+		public SynchronizationLockStrategy strategy = SynchronizationLockStrategy.FAIR
 
 	}
 
@@ -69,10 +118,50 @@ class SynchronizationRuleProcessor extends RuleProcessor<FieldDeclaration, Mutab
 
 		synchronizationRuleProcessorInfo.lockName = annotationSynchronizationRule.getStringValue("value")
 
+		val strategyValue = annotationSynchronizationRule.getEnumValue("strategy")
+		if (strategyValue !== null)
+			synchronizationRuleProcessorInfo.strategy = SynchronizationLockStrategy.valueOf(strategyValue.simpleName)
+
 		return synchronizationRuleProcessorInfo
 
 	}
 
+	/**
+	 * <p>Returns the name of the (static) field, which holds the synchronization lock for the given field.</p>
+	 */
+	static def String getSynchronizationLockFieldName(FieldDeclaration annotatedField) {
+
+		return SYNCHRONIZATION_LOCK_FIELD_NAME_PREFIX + annotatedField.simpleName
+
+	}
+
+	/**
+	 * <p>Adds a static field to the class of the given field, which holds the synchronization lock. The lock
+	 * is resolved by its name only once (class initialization), so generated methods can use it directly.</p>
+	 */
+	static def void addSynchronizationLockField(MutableFieldDeclaration annotatedField,
+		extension TransformationContext context) {
+
+		val synchronizationRuleInfo = annotatedField.getSynchronizationRuleInfo(context)
+
+		val lockField = (annotatedField.declaringType as MutableClassDeclaration).addField(
+			annotatedField.synchronizationLockFieldName) [
+
+			static = true
+			final = true
+			visibility = Visibility::PRIVATE
+			type = SynchronizationLock.newTypeReference
+			initializer = '''org.eclipse.xtend.lib.annotation.etai.utils.GetterSetterUtils.getSynchronizationLock("«synchronizationRuleInfo.lockName»", org.eclipse.xtend.lib.annotation.etai.SynchronizationLockStrategy.«synchronizationRuleInfo.strategy»)'''
+
+			// documentation
+			docComment = '''This field holds the synchronization lock "«synchronizationRuleInfo.lockName»" for {@link #«annotatedField.simpleName»}.'''
+
+		]
+
+		lockField.markAsRead
+
+	}
+
 	override void doValidate(FieldDeclaration annotatedField, extension ValidationContext context) {
 
 		super.doValidate(annotatedField, context)
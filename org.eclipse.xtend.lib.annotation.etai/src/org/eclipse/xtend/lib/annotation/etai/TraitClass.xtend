@@ -2,6 +2,7 @@ package org.eclipse.xtend.lib.annotation.etai
 
 import java.lang.annotation.ElementType
 import java.lang.annotation.Target
+import java.lang.invoke.MethodHandle
 import java.util.ArrayList
 import java.util.HashSet
 import java.util.List
@@ -9,6 +10,7 @@ import java.util.Set
 import org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils
 import org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.TypeErasureMethod
 import org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.TypeMatchingStrategy
+import org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils.ExtendedClassMethod
 import org.eclipse.xtend.lib.annotation.etai.utils.TypeMap
 import org.eclipse.xtend.lib.macro.Active
 import org.eclipse.xtend.lib.macro.RegisterGlobalsContext
@@ -83,6 +85,23 @@ annotation TraitClass {
 	 */
 	boolean baseClass = false
 
+	/**
+	 * <p>If set to <code>true</code>, the delegation object for this trait class is not constructed
+	 * together with the extended object, but on first call of any of its trait methods. This
+	 * avoids allocations for trait classes which are rarely used.</p>
+	 * 
+	 * <p>Lazy construction is not possible for trait classes with constructor methods
+	 * ({@link ConstructorMethod}) that require arguments.</p>
+	 */
+	boolean lazy = false
+
+	/**
+	 * <p>If set to <code>true</code>, the lazy construction of the delegation object is
+	 * thread-safe, i.e., it is guaranteed that only one delegation object is constructed even
+	 * if the extended object is shared between threads. This requires {@link #lazy} to be set.</p>
+	 */
+	boolean lazyThreadSafe = false
+
 	/**
 	 * <p>For extracting the interface, a name (rule) can be specified.</p>
 	 * 
@@ -122,6 +141,16 @@ annotation TraitClassAutoUsing {
 	 */
 	boolean baseClass = false
 
+	/**
+	 * @see TraitClass#lazy
+	 */
+	boolean lazy = false
+
+	/**
+	 * @see TraitClass#lazyThreadSafe
+	 */
+	boolean lazyThreadSafe = false
+
 	/**
 	 * <p>For extracting the interface, a name (rule) can be specified.
 	 * 
@@ -183,6 +212,8 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 
 	final static public String TRAIT_METHOD_IMPL_NAME_SUFFIX = "$impl"
 	final static public String EXTENDED_METHOD_CALL_NAME_SUFFIX = "$extended"
+	final static public String EXTENDED_CLASS_METHOD_FIELD_NAME_PREFIX = "$extendedClassMethod$"
+	final static public String SUPER_CALL_METHOD_HANDLE_FIELD_NAME_PREFIX = "$superCallMethodHandle$"
 
 	final static public Set<String> TRAIT_CLASS_TO_BE_PROCESSED = new HashSet<String>
 
@@ -376,6 +407,37 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 	 */
 	static def isTraitBaseClass(ClassDeclaration annotatedClass) {
 
+		return annotatedClass.getTraitClassAnnotation.getBooleanValue("baseClass")
+
+	}
+
+	/**
+	 * <p>Checks if the delegation object of the trait class shall be constructed lazily.</p>
+	 * 
+	 * @see TraitClass#lazy
+	 */
+	static def isTraitClassLazy(ClassDeclaration annotatedClass) {
+
+		return annotatedClass.getTraitClassAnnotation.getBooleanValue("lazy")
+
+	}
+
+	/**
+	 * <p>Checks if the delegation object of the trait class shall be constructed lazily in a thread-safe way.</p>
+	 * 
+	 * @see TraitClass#lazyThreadSafe
+	 */
+	static def isTraitClassLazyThreadSafe(ClassDeclaration annotatedClass) {
+
+		return annotatedClass.getTraitClassAnnotation.getBooleanValue("lazyThreadSafe")
+
+	}
+
+	/**
+	 * <p>Returns the annotation ({@link TraitClass} or {@link TraitClassAutoUsing}) of the trait class.</p>
+	 */
+	static private def getTraitClassAnnotation(ClassDeclaration annotatedClass) {
+
 		// retrieve data from annotation	 	
 		var annotationTraitClass = annotatedClass.getAnnotation(TraitClass)
 		if (annotationTraitClass === null)
@@ -383,7 +445,7 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 		if (annotationTraitClass === null)
 			throw new IllegalArgumentException('''Class «annotatedClass.qualifiedName» is not a trait class, so checking attributes is not possible''')
 
-		return annotationTraitClass.getBooleanValue("baseClass")
+		return annotationTraitClass
 
 	}
 
@@ -415,6 +477,53 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 		annotatedMethod.simpleName + EXTENDED_METHOD_CALL_NAME_SUFFIX
 	}
 
+	/**
+	 * <p>Returns the code for calling a (non-public) method of the extended class.</p>
+	 * 
+	 * <p>The method is resolved once per extended class and called via method handle. For this,
+	 * a static field is added to the trait class. If the method cannot be found, the reflection-based
+	 * implementation (e.g. considering the default value provider) is used.</p>
+	 */
+	static def String getExtendedClassMethodCallCode(MutableClassDeclaration annotatedClass, String methodName,
+		String defaultValueProviderCode, boolean isVoid, String returnTypeString, List<String> paramNameList,
+		List<String> paramTypeNameList, extension TransformationContext context) {
+
+		val fieldName = EXTENDED_CLASS_METHOD_FIELD_NAME_PREFIX + annotatedClass.declaredFields.filter [
+			simpleName.startsWith(EXTENDED_CLASS_METHOD_FIELD_NAME_PREFIX)
+		].size
+		val paramTypesCode = '''new Class<?> [] { «paramTypeNameList.map[it + ".class"].join(", ")» }'''
+
+		val extendedClassMethodField = annotatedClass.addField(fieldName) [
+
+			static = true
+			final = true
+			visibility = Visibility::PRIVATE
+			type = ExtendedClassMethod.newTypeReference
+			initializer = '''new org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils.ExtendedClassMethod("«methodName»", «paramTypesCode»)'''
+
+			// documentation
+			docComment = '''This field resolves method "«methodName»" in the extended class.'''
+
+		]
+
+		extendedClassMethodField.markAsRead
+
+		return '''{
+				java.lang.invoke.MethodHandle $methodHandle = «fieldName».get(«EXTENDED_THIS_METHOD_NAME»().getClass());
+				if ($methodHandle == null) {
+					«IF !isVoid»return («returnTypeString») «ENDIF»org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils.callMethodInExtendedClass(«EXTENDED_THIS_METHOD_NAME»(), "«methodName»",
+						«defaultValueProviderCode», «isVoid», «paramTypesCode», new Object [] { «paramNameList.join(", ")» });
+					«IF isVoid»return;«ENDIF»
+				}
+				try {
+					«IF !isVoid»return («returnTypeString») «ENDIF»$methodHandle.invoke(«EXTENDED_THIS_METHOD_NAME»()«FOR paramName : paramNameList», «paramName»«ENDFOR»);
+				} catch (java.lang.Throwable $exception) {
+					throw org.eclipse.xtext.xbase.lib.Exceptions.sneakyThrow($exception);
+				}
+			}'''
+
+	}
+
 	/**
 	 * <p>Returns if trait class contains trait class constructor methods.</p>
 	 */
@@ -504,8 +613,8 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 	 * 
 	 * <p>If no name for a target method is provided, the returned code again makes a super call.</p>
 	 */
-	static def String generateSuperCallRedirectionCode(ClassDeclaration annotatedClass,
-		MethodDeclaration methodDeclaration, String targetMethodName, TypeReferenceProvider context) {
+	static def String generateSuperCallRedirectionCode(MutableClassDeclaration annotatedClass,
+		MethodDeclaration methodDeclaration, String targetMethodName, extension TransformationContext context) {
 
 		// extract meta information from method
 		val isVoid = methodDeclaration.returnType === null || methodDeclaration.returnType.isVoid()
@@ -513,19 +622,37 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 		val paramTypeNameList = methodDeclaration.getParametersTypeNames(TypeErasureMethod.REMOVE_GENERICS, false,
 			context)
 
+		// method handle for calling the target method (without virtual dispatch) is only resolved once
+		var String methodHandleFieldName = null
+		if (targetMethodName !== null) {
+
+			methodHandleFieldName = SUPER_CALL_METHOD_HANDLE_FIELD_NAME_PREFIX + annotatedClass.declaredFields.filter [
+				simpleName.startsWith(SUPER_CALL_METHOD_HANDLE_FIELD_NAME_PREFIX)
+			].size
+
+			val methodHandleField = annotatedClass.addField(methodHandleFieldName) [
+
+				static = true
+				final = true
+				visibility = Visibility::PRIVATE
+				type = MethodHandle.newTypeReference
+				initializer = '''org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils.getSpecialMethodHandle(java.lang.invoke.MethodHandles.lookup(),
+					«annotatedClass.qualifiedName».class, "«targetMethodName»", new Class<?> [] { «paramTypeNameList.map[it + ".class"].join(", ")» })'''
+
+				// documentation
+				docComment = '''This field resolves method "«targetMethodName»" for calls via super call.'''
+
+			]
+
+			methodHandleField.markAsRead
+
+		}
+
 		// generate code to call method if method was called from derived class via super call
 		return if (targetMethodName !== null)
 			'''if (this.getClass() != «annotatedClass.qualifiedName».class)
 						try {
-							«IF !isVoid»return («methodDeclaration.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context)») «ENDIF»java.lang.invoke.MethodHandles.lookup().unreflectSpecial(org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils.getPrivateMethodExactMatch(
-								«annotatedClass.qualifiedName».class,
-								"«targetMethodName»",
-									new Class<?> [] { «paramTypeNameList.map[it + ".class"].join(", ")» }),
-								«annotatedClass.qualifiedName».class
-								).invoke(
-									this«IF paramNameList.size > 0»,«ENDIF»
-									«paramNameList.join(", ")»
-								);
+							«IF !isVoid»return («methodDeclaration.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context)») «ENDIF»«methodHandleFieldName».invoke(this«FOR paramName : paramNameList», «paramName»«ENDFOR»);
 						} catch (java.lang.Throwable $exception) {
 							throw org.eclipse.xtext.xbase.lib.Exceptions.sneakyThrow($exception);
 						}
@@ -622,10 +749,12 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 		if (xtendClass.extendedClass === null || xtendClass.extendedClass.type.qualifiedName == Object.canonicalName) {
 
 			// create fields for delegation object
+			// (the reference is final, because it is set only once during construction)
 			annotatedClass.addField(EXTENDED_THIS_FIELD_NAME) [
 
 				static = false
-				visibility = Visibility::PRIVATE
+				final = true
+				visibility = Visibility::PROTECTED
 				type = mirrorInterfaceTypeRef
 
 				// documentation
@@ -637,7 +766,8 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 
 		} else {
 
-			extendedThisMethod.body = '''return («mirrorInterfaceTypeRef.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false,context)») super.«EXTENDED_THIS_METHOD_NAME»();''';
+			// access field of root trait class directly (instead of calling method of each parent trait class)
+			extendedThisMethod.body = '''return («mirrorInterfaceTypeRef.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false,context)») «EXTENDED_THIS_FIELD_NAME»;''';
 
 		}
 
@@ -683,7 +813,7 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 
 				// pass current priority
 				paramNameList.add(String.valueOf(envelopeMethod.getPriorityEnvelopeMethodInfo(context).priority))
-				paramTypeNameList.add("java.lang.Integer")
+				paramTypeNameList.add("int")
 
 				// pass default value
 				if (!isVoid) {
@@ -711,12 +841,10 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 					envelopeMethod.getExtendedMethodImplName(annotatedClass)
 
 			bodySetter.setBody(
-				newMethod, '''«IF !isVoid»return («newMethod.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false,context)»)«ENDIF»
-						org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils.callMethodInExtendedClass(«EXTENDED_THIS_METHOD_NAME»(), "«methodNameCalled»",
-						«IF (envelopeMethod.isEnvelopeMethod && defaultValueProvider !== null)»«defaultValueProvider».class«ELSE»null«ENDIF»,
-						«isVoid»,
-						new Class<?> [] { «paramTypeNameList.map[it + ".class"] .join(", ")» },
-						new Object [] { «paramNameList.join(", ")» });''', context)
+				newMethod,
+				annotatedClass.getExtendedClassMethodCallCode(methodNameCalled, '''«IF (envelopeMethod.isEnvelopeMethod && defaultValueProvider !== null)»«defaultValueProvider».class«ELSE»null«ENDIF»''',
+					isVoid, newMethod.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false,
+						context), paramNameList, paramTypeNameList, context), context)
 
 		}
 
@@ -960,12 +1088,8 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 			} else {
 
 				bodySetter.setBody(
-					delegationMethod, '''«callSuperTargetCode»«IF !isVoid»return («methodFinal.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false,false, context)»)«ENDIF»
-						org.eclipse.xtend.lib.annotation.etai.utils.ReflectUtils.callMethodInExtendedClass(«EXTENDED_THIS_METHOD_NAME»(),"«methodFinal.simpleName»",
-						null,
-						«isVoid»,
-						new Class<?> [] { «paramTypeNameList.map[it + ".class"].join(", ")» },
-						new Object [] { «paramNameList.join(", ")» });''', context)
+					delegationMethod, '''«callSuperTargetCode»«annotatedClass.getExtendedClassMethodCallCode(methodFinal.simpleName, "null", isVoid, methodFinal.returnType.getTypeReferenceAsString(true, TypeErasureMethod.NONE, false, false, context), paramNameList, paramTypeNameList, context)»''',
+					context)
 
 			}
 
@@ -996,6 +1120,13 @@ class TraitClassProcessor extends ExtractInterfaceProcessor implements QueuedTra
 		if (!xtendClass.abstract)
 			xtendClass.addError('''Trait class must be declared abstract''')
 
+		// lazy construction is only possible if no arguments are required
+		if (annotatedClass.isTraitClassLazyThreadSafe && !annotatedClass.isTraitClassLazy)
+			xtendClass.addError('''Thread-safe lazy construction requires lazy construction to be enabled''')
+		if (annotatedClass.isTraitClassLazy && annotatedClass.hasNonEmptyConstructorMethod(context))
+			xtendClass.
+				addError('''Trait class cannot be constructed lazily because it has constructor methods with parameters''')
+
 		// must not specify constructors
 		if (xtendClass.declaredConstructors.size > 0)
 			xtendClass.declaredConstructors.get(0).addError(
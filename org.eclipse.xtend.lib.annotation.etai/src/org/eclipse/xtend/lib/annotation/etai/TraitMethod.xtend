@@ -2,6 +2,9 @@ package org.eclipse.xtend.lib.annotation.etai
 
 import java.lang.annotation.ElementType
 import java.lang.annotation.Target
+import java.util.HashSet
+import java.util.Map
+import java.util.Set
 import org.eclipse.xtend.lib.macro.Active
 import org.eclipse.xtend.lib.macro.TransformationContext
 import org.eclipse.xtend.lib.macro.ValidationContext
@@ -14,7 +17,9 @@ import org.eclipse.xtend.lib.macro.declaration.MethodDeclaration
 import org.eclipse.xtend.lib.macro.declaration.NamedElement
 import org.eclipse.xtend.lib.macro.declaration.TypeDeclaration
 import org.eclipse.xtend.lib.macro.declaration.Visibility
+import org.eclipse.xtend.lib.macro.file.FileLocations
 import org.eclipse.xtend.lib.macro.services.TypeLookup
+import org.eclipse.xtend.lib.macro.services.TypeReferenceProvider
 
 import static extension org.eclipse.xtend.lib.annotation.etai.TraitClassProcessor.*
 import static extension org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.*
@@ -127,6 +132,9 @@ annotation EnvelopeMethod {
 	 * 
 	 * <p>The given class must provide a constructor that does not require arguments.</p>
 	 * 
+	 * <p>Only one object of the given class is created and shared. If the class implements
+	 * {@link ConstantDefaultValueProvider}, the default value is only retrieved once.</p>
+	 * 
 	 * @see DefaultValueProvider
 	 */
 	Class<?> defaultValueProvider = Object
@@ -216,6 +224,9 @@ annotation PriorityEnvelopeMethod {
 	 * 
 	 * <p>The given class must provide a constructor that does not require arguments.</p>
 	 * 
+	 * <p>Only one object of the given class is created and shared. If the class implements
+	 * {@link ConstantDefaultValueProvider}, the default value is only retrieved once.</p>
+	 * 
 	 * @see DefaultValueProvider
 	 */
 	Class<?> defaultValueProvider = Object
@@ -458,6 +469,13 @@ class ExclusiveMethodProcessor extends AbstractTraitMethodAnnotationProcessor {
  */
 class ProcessedMethodProcessor extends AbstractTraitMethodAnnotationProcessor {
 
+	final static public Map<String, Class<?>> PRIMITIVE_SPECIALIZED_PROCESSORS = #{
+		"int" -> IntTraitMethodProcessor,
+		"long" -> LongTraitMethodProcessor,
+		"double" -> DoubleTraitMethodProcessor,
+		"boolean" -> BooleanTraitMethodProcessor
+	}
+
 	/** 
 	 * <p>Helper class for storing information about trait method.</p>
 	 */
@@ -504,6 +522,43 @@ class ProcessedMethodProcessor extends AbstractTraitMethodAnnotationProcessor {
 
 	}
 
+	/**
+	 * <p>Returns all primitive types (e.g. <code>int</code> for {@link IntTraitMethodProcessor}), which the given
+	 * trait method processor is specialized for.</p>
+	 */
+	static def <T extends TypeLookup & FileLocations & TypeReferenceProvider> Set<String> getProcessorPrimitiveSpecializations(
+		TypeDeclaration processor, extension T context) {
+
+		val result = new HashSet<String>
+
+		if (!(processor instanceof ClassDeclaration))
+			return result
+
+		val superTypes = (processor as ClassDeclaration).getSuperTypeClosure(null, null, true, context)
+		for (primitiveSpecialization : PRIMITIVE_SPECIALIZED_PROCESSORS.entrySet)
+			if (superTypes.contains(primitiveSpecialization.value.findTypeGlobally))
+				result.add(primitiveSpecialization.key)
+
+		return result
+
+	}
+
+	/**
+	 * <p>Returns the primitive type, which is used for calling the given trait method processor for a method
+	 * with the given return type (e.g. <code>int</code> if the method returns <code>int</code> and the
+	 * processor implements {@link IntTraitMethodProcessor}), or <code>null</code> if the processor is not
+	 * specialized for this return type.</p>
+	 */
+	static def <T extends TypeLookup & FileLocations & TypeReferenceProvider> String getProcessorPrimitiveSpecialization(
+		TypeDeclaration processor, String returnTypeName, extension T context) {
+
+		if (processor.getProcessorPrimitiveSpecializations(context).contains(returnTypeName))
+			return returnTypeName
+
+		return null
+
+	}
+
 	/**
 	 * <p>Copies the annotation (compatible to this processor) from the given source (if existent) including
 	 * all attributes and returns a new annotation reference.</p>
@@ -555,6 +610,11 @@ class ProcessedMethodProcessor extends AbstractTraitMethodAnnotationProcessor {
 						contains(traitMethodProcessorType))
 					xtendMember.addError("The given processor is not implementing the TraitMethodProcessor interface")
 
+				// primitive-specialized processor must match return type
+				val primitiveSpecializations = processedMethodInfo.processor.getProcessorPrimitiveSpecializations(context)
+				if (!primitiveSpecializations.empty && !primitiveSpecializations.contains(xtendMember.returnType?.name))
+					xtendMember.addError('''The given processor can only be applied to methods with return type "«primitiveSpecializations.sort.join('" or "')»"''')
+
 			}
 
 		}
@@ -1,5 +1,9 @@
 package org.eclipse.xtend.lib.annotation.etai
 
+import java.lang.annotation.ElementType
+import java.lang.annotation.Retention
+import java.lang.annotation.RetentionPolicy
+import java.lang.annotation.Target
 import java.lang.reflect.Method
 import java.util.ArrayList
 import java.util.List
@@ -85,6 +89,71 @@ abstract class LazyEvaluationAbstract implements LazyEvaluation {
 
 }
 
+/**
+ * <p>This is an implementation of the interface for storing method calls, which does not
+ * copy the arguments of the stored method call in advance.</p>
+ * 
+ * <p>The arguments are captured by the implementing (anonymous inner) class and copied only
+ * if they are accessed. From then on, the stored method call must use the copied arguments
+ * (see {@link #isArgumentsMaterialized()}).</p>
+ * 
+ * <p>Note that this class should only be used if implemented by an anonymous inner class inside
+ * a method.</p>
+ */
+abstract class LazyEvaluationCapturedArguments implements LazyEvaluation {
+
+	Object[] arguments = null
+	Object executingObject
+
+	new(Object executingObject) {
+
+		this.executingObject = executingObject
+
+	}
+
+	/**
+	 * <p>Returns the captured arguments of the stored method call as new array.</p>
+	 */
+	protected def Object[] captureArguments()
+
+	/**
+	 * <p>Returns if the arguments have already been copied, i.e., if the stored method
+	 * call must retrieve its arguments via {@link #getArgument(int)}.</p>
+	 */
+	protected def boolean isArgumentsMaterialized() {
+		return arguments !== null
+	}
+
+	override Object getExecutingObject() {
+		return executingObject
+	}
+
+	override int getNumberOfArguments() {
+		return materializedArguments.length
+	}
+
+	override Object getArgument(int index) {
+		return materializedArguments.get(index)
+	}
+
+	override void setArgument(int index, Object value) {
+		materializedArguments.set(index, value)
+	}
+
+	override Method getMethod() {
+		return class.enclosingMethod
+	}
+
+	private def Object[] getMaterializedArguments() {
+
+		if (arguments === null)
+			arguments = captureArguments()
+		return arguments
+
+	}
+
+}
+
 /**
  * <p>If a trait method may also exist in the extended class, a trait method
  * processor must be specified in addition. An object implementing this interface
@@ -96,6 +165,9 @@ abstract class LazyEvaluationAbstract implements LazyEvaluation {
  * 
  * <p>A class implementing this interface must have a parameterless constructor.</p>
  * 
+ * <p>By default, a new trait method processor object is created for each call. If the
+ * class is annotated by {@link StatelessProcessor}, a single object is used instead.</p>
+ * 
  * @see ProcessedMethod
  */
 interface TraitMethodProcessor {
@@ -111,12 +183,418 @@ interface TraitMethodProcessor {
 
 }
 
+/**
+ * <p>Trait method processor for methods returning <code>int</code>. Results are processed
+ * without boxing them.</p>
+ * 
+ * <p>If a processed method returns <code>int</code>, the delegation method calls
+ * {@link #callInt} instead of {@link #call}. This processor cannot be used for methods
+ * with another return type.</p>
+ */
+interface IntTraitMethodProcessor extends TraitMethodProcessor {
+
+	/**
+	 * <p>Specifies how the methods of the trait class and the extended class are called
+	 * (see {@link TraitMethodProcessor#call}).</p>
+	 * 
+	 * @param expressionTraitClass		    the stored call for the method of the trait class
+	 * @param expressionExtendedClass		the stored call for the method of the extended class
+	 */
+	def int callInt(IntLazyEvaluation expressionTraitClass, IntLazyEvaluation expressionExtendedClass)
+
+	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+		return callInt(IntLazyEvaluationAdapter.adapt(expressionTraitClass),
+			IntLazyEvaluationAdapter.adapt(expressionExtendedClass))
+	}
+
+}
+
+/**
+ * <p>Trait method processor for methods returning <code>long</code>. Results are processed
+ * without boxing them.</p>
+ * 
+ * <p>If a processed method returns <code>long</code>, the delegation method calls
+ * {@link #callLong} instead of {@link #call}. This processor cannot be used for methods
+ * with another return type.</p>
+ */
+interface LongTraitMethodProcessor extends TraitMethodProcessor {
+
+	/**
+	 * <p>Specifies how the methods of the trait class and the extended class are called
+	 * (see {@link TraitMethodProcessor#call}).</p>
+	 * 
+	 * @param expressionTraitClass		    the stored call for the method of the trait class
+	 * @param expressionExtendedClass		the stored call for the method of the extended class
+	 */
+	def long callLong(LongLazyEvaluation expressionTraitClass, LongLazyEvaluation expressionExtendedClass)
+
+	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+		return callLong(LongLazyEvaluationAdapter.adapt(expressionTraitClass),
+			LongLazyEvaluationAdapter.adapt(expressionExtendedClass))
+	}
+
+}
+
+/**
+ * <p>Trait method processor for methods returning <code>double</code>. Results are processed
+ * without boxing them.</p>
+ * 
+ * <p>If a processed method returns <code>double</code>, the delegation method calls
+ * {@link #callDouble} instead of {@link #call}. This processor cannot be used for methods
+ * with another return type.</p>
+ */
+interface DoubleTraitMethodProcessor extends TraitMethodProcessor {
+
+	/**
+	 * <p>Specifies how the methods of the trait class and the extended class are called
+	 * (see {@link TraitMethodProcessor#call}).</p>
+	 * 
+	 * @param expressionTraitClass		    the stored call for the method of the trait class
+	 * @param expressionExtendedClass		the stored call for the method of the extended class
+	 */
+	def double callDouble(DoubleLazyEvaluation expressionTraitClass, DoubleLazyEvaluation expressionExtendedClass)
+
+	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+		return callDouble(DoubleLazyEvaluationAdapter.adapt(expressionTraitClass),
+			DoubleLazyEvaluationAdapter.adapt(expressionExtendedClass))
+	}
+
+}
+
+/**
+ * <p>Trait method processor for methods returning <code>boolean</code>. Results are processed
+ * without boxing them.</p>
+ * 
+ * <p>If a processed method returns <code>boolean</code>, the delegation method calls
+ * {@link #callBoolean} instead of {@link #call}. This processor cannot be used for methods
+ * with another return type.</p>
+ */
+interface BooleanTraitMethodProcessor extends TraitMethodProcessor {
+
+	/**
+	 * <p>Specifies how the methods of the trait class and the extended class are called
+	 * (see {@link TraitMethodProcessor#call}).</p>
+	 * 
+	 * @param expressionTraitClass		    the stored call for the method of the trait class
+	 * @param expressionExtendedClass		the stored call for the method of the extended class
+	 */
+	def boolean callBoolean(BooleanLazyEvaluation expressionTraitClass, BooleanLazyEvaluation expressionExtendedClass)
+
+	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
+		return callBoolean(BooleanLazyEvaluationAdapter.adapt(expressionTraitClass),
+			BooleanLazyEvaluationAdapter.adapt(expressionExtendedClass))
+	}
+
+}
+
+/**
+ * <p>Interface for objects which store method calls returning <code>int</code>. The stored call
+ * can be evaluated without boxing the result.</p>
+ * 
+ * @see IntTraitMethodProcessor
+ */
+interface IntLazyEvaluation extends LazyEvaluation {
+
+	/**
+	 * <p>Evaluate the stored method call and returns the (primitive) result.</p>
+	 */
+	def int evalInt()
+
+}
+
+/**
+ * <p>This is an implementation of {@link IntLazyEvaluation} based on {@link LazyEvaluationCapturedArguments}.</p>
+ */
+abstract class IntLazyEvaluationCapturedArguments extends LazyEvaluationCapturedArguments implements IntLazyEvaluation {
+
+	new(Object executingObject) {
+
+		super(executingObject)
+
+	}
+
+	override Object eval() {
+		return evalInt()
+	}
+
+}
+
+/**
+ * <p>This is a base class for adapting a (generic) {@link LazyEvaluation} object to a
+ * primitive-specialized lazy evaluation interface. All calls are delegated to the wrapped object.</p>
+ */
+abstract class LazyEvaluationAdapter implements LazyEvaluation {
+
+	final LazyEvaluation lazyEvaluation
+
+	new(LazyEvaluation lazyEvaluation) {
+
+		this.lazyEvaluation = lazyEvaluation
+
+	}
+
+	override int getNumberOfArguments() {
+		return lazyEvaluation.numberOfArguments
+	}
+
+	override Object getArgument(int index) {
+		return lazyEvaluation.getArgument(index)
+	}
+
+	override void setArgument(int index, Object value) {
+		lazyEvaluation.setArgument(index, value)
+	}
+
+	override Object getExecutingObject() {
+		return lazyEvaluation.executingObject
+	}
+
+	override Method getMethod() {
+		return lazyEvaluation.method
+	}
+
+	override Object eval() {
+		return lazyEvaluation.eval()
+	}
+
+}
+
+/**
+ * <p>This is an implementation of {@link IntLazyEvaluation}, which wraps a (generic) {@link LazyEvaluation}
+ * object. The result of the stored method call is unboxed.</p>
+ */
+class IntLazyEvaluationAdapter extends LazyEvaluationAdapter implements IntLazyEvaluation {
+
+	/**
+	 * <p>Returns the given lazy evaluation object as {@link IntLazyEvaluation}. It is only wrapped
+	 * if it does not implement this interface already.</p>
+	 */
+	static def IntLazyEvaluation adapt(LazyEvaluation lazyEvaluation) {
+
+		if (lazyEvaluation === null || lazyEvaluation instanceof IntLazyEvaluation)
+			return lazyEvaluation as IntLazyEvaluation
+		return new IntLazyEvaluationAdapter(lazyEvaluation)
+
+	}
+
+	new(LazyEvaluation lazyEvaluation) {
+
+		super(lazyEvaluation)
+
+	}
+
+	override int evalInt() {
+		return eval() as Integer
+	}
+
+}
+
+/**
+ * <p>Interface for objects which store method calls returning <code>long</code>. The stored call
+ * can be evaluated without boxing the result.</p>
+ * 
+ * @see LongTraitMethodProcessor
+ */
+interface LongLazyEvaluation extends LazyEvaluation {
+
+	/**
+	 * <p>Evaluate the stored method call and returns the (primitive) result.</p>
+	 */
+	def long evalLong()
+
+}
+
+/**
+ * <p>This is an implementation of {@link LongLazyEvaluation} based on {@link LazyEvaluationCapturedArguments}.</p>
+ */
+abstract class LongLazyEvaluationCapturedArguments extends LazyEvaluationCapturedArguments implements LongLazyEvaluation {
+
+	new(Object executingObject) {
+
+		super(executingObject)
+
+	}
+
+	override Object eval() {
+		return evalLong()
+	}
+
+}
+
+/**
+ * <p>This is an implementation of {@link LongLazyEvaluation}, which wraps a (generic) {@link LazyEvaluation}
+ * object. The result of the stored method call is unboxed.</p>
+ */
+class LongLazyEvaluationAdapter extends LazyEvaluationAdapter implements LongLazyEvaluation {
+
+	/**
+	 * <p>Returns the given lazy evaluation object as {@link LongLazyEvaluation}. It is only wrapped
+	 * if it does not implement this interface already.</p>
+	 */
+	static def LongLazyEvaluation adapt(LazyEvaluation lazyEvaluation) {
+
+		if (lazyEvaluation === null || lazyEvaluation instanceof LongLazyEvaluation)
+			return lazyEvaluation as LongLazyEvaluation
+		return new LongLazyEvaluationAdapter(lazyEvaluation)
+
+	}
+
+	new(LazyEvaluation lazyEvaluation) {
+
+		super(lazyEvaluation)
+
+	}
+
+	override long evalLong() {
+		return eval() as Long
+	}
+
+}
+
+/**
+ * <p>Interface for objects which store method calls returning <code>double</code>. The stored call
+ * can be evaluated without boxing the result.</p>
+ * 
+ * @see DoubleTraitMethodProcessor
+ */
+interface DoubleLazyEvaluation extends LazyEvaluation {
+
+	/**
+	 * <p>Evaluate the stored method call and returns the (primitive) result.</p>
+	 */
+	def double evalDouble()
+
+}
+
+/**
+ * <p>This is an implementation of {@link DoubleLazyEvaluation} based on {@link LazyEvaluationCapturedArguments}.</p>
+ */
+abstract class DoubleLazyEvaluationCapturedArguments extends LazyEvaluationCapturedArguments implements DoubleLazyEvaluation {
+
+	new(Object executingObject) {
+
+		super(executingObject)
+
+	}
+
+	override Object eval() {
+		return evalDouble()
+	}
+
+}
+
+/**
+ * <p>This is an implementation of {@link DoubleLazyEvaluation}, which wraps a (generic) {@link LazyEvaluation}
+ * object. The result of the stored method call is unboxed.</p>
+ */
+class DoubleLazyEvaluationAdapter extends LazyEvaluationAdapter implements DoubleLazyEvaluation {
+
+	/**
+	 * <p>Returns the given lazy evaluation object as {@link DoubleLazyEvaluation}. It is only wrapped
+	 * if it does not implement this interface already.</p>
+	 */
+	static def DoubleLazyEvaluation adapt(LazyEvaluation lazyEvaluation) {
+
+		if (lazyEvaluation === null || lazyEvaluation instanceof DoubleLazyEvaluation)
+			return lazyEvaluation as DoubleLazyEvaluation
+		return new DoubleLazyEvaluationAdapter(lazyEvaluation)
+
+	}
+
+	new(LazyEvaluation lazyEvaluation) {
+
+		super(lazyEvaluation)
+
+	}
+
+	override double evalDouble() {
+		return eval() as Double
+	}
+
+}
+
+/**
+ * <p>Interface for objects which store method calls returning <code>boolean</code>. The stored call
+ * can be evaluated without boxing the result.</p>
+ * 
+ * @see BooleanTraitMethodProcessor
+ */
+interface BooleanLazyEvaluation extends LazyEvaluation {
+
+	/**
+	 * <p>Evaluate the stored method call and returns the (primitive) result.</p>
+	 */
+	def boolean evalBoolean()
+
+}
+
+/**
+ * <p>This is an implementation of {@link BooleanLazyEvaluation} based on {@link LazyEvaluationCapturedArguments}.</p>
+ */
+abstract class BooleanLazyEvaluationCapturedArguments extends LazyEvaluationCapturedArguments implements BooleanLazyEvaluation {
+
+	new(Object executingObject) {
+
+		super(executingObject)
+
+	}
+
+	override Object eval() {
+		return evalBoolean()
+	}
+
+}
+
+/**
+ * <p>This is an implementation of {@link BooleanLazyEvaluation}, which wraps a (generic) {@link LazyEvaluation}
+ * object. The result of the stored method call is unboxed.</p>
+ */
+class BooleanLazyEvaluationAdapter extends LazyEvaluationAdapter implements BooleanLazyEvaluation {
+
+	/**
+	 * <p>Returns the given lazy evaluation object as {@link BooleanLazyEvaluation}. It is only wrapped
+	 * if it does not implement this interface already.</p>
+	 */
+	static def BooleanLazyEvaluation adapt(LazyEvaluation lazyEvaluation) {
+
+		if (lazyEvaluation === null || lazyEvaluation instanceof BooleanLazyEvaluation)
+			return lazyEvaluation as BooleanLazyEvaluation
+		return new BooleanLazyEvaluationAdapter(lazyEvaluation)
+
+	}
+
+	new(LazyEvaluation lazyEvaluation) {
+
+		super(lazyEvaluation)
+
+	}
+
+	override boolean evalBoolean() {
+		return eval() as Boolean
+	}
+
+}
+
+/**
+ * <p>Marks a trait method processor that does not keep any state between calls.</p>
+ * 
+ * <p>The generated code of an extended class creates only one object of such a processor
+ * and uses it for all calls, so the processor must be thread-safe.</p>
+ * 
+ * @see TraitMethodProcessor
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+annotation StatelessProcessor {
+}
+
 /**
  * <p>Standard trait method processor:</p>
  * 
  * <p>If the trait method exists in the extended class, it will override the functionality in the
  * trait class, i.e., the functionality in the trait class represents the default behavior.</p>
  */
+@StatelessProcessor
 class EPDefault implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -134,6 +612,7 @@ class EPDefault implements TraitMethodProcessor {
  * 
  * <p>The trait method completely overrides methods within the extended class.</p>
  */
+@StatelessProcessor
 class EPOverride implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -149,6 +628,7 @@ class EPOverride implements TraitMethodProcessor {
  * 
  * <p>The trait method (return type: void) is executed before a potential method within the extended class.</p>
  */
+@StatelessProcessor
 class EPVoidPre implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -167,6 +647,7 @@ class EPVoidPre implements TraitMethodProcessor {
  * 
  * <p>The trait method (return type: void) is executed after a potential method within the extended class.</p>
  */
+@StatelessProcessor
 class EPVoidPost implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -185,6 +666,7 @@ class EPVoidPost implements TraitMethodProcessor {
  * 
  * <p>The trait method (return type: void) is executed after a potential method within the extended class even if there has been an exception.</p>
  */
+@StatelessProcessor
 class EPVoidFinally implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -208,12 +690,13 @@ class EPVoidFinally implements TraitMethodProcessor {
  * If such a method exists in the extended class, it is also executed if the result of the trait method
  * is true (short-circuit evaluation) and both results are combined via AND operation.</p>
  */
+@StatelessProcessor
 class EPBooleanPreAnd implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
 
 		var Boolean result = expressionTraitClass.eval() as Boolean
-		if (result == true && expressionExtendedClass !== null)
+		if (expressionExtendedClass !== null && result == true)
 			result = expressionExtendedClass.eval() as Boolean
 		return result
 
@@ -228,6 +711,7 @@ class EPBooleanPreAnd implements TraitMethodProcessor {
  * if the result of such a method is true (short-circuit evaluation). Then, both results are combined
  * via AND operation. If such a method does not exist, only the trait method is called.</p>
  */
+@StatelessProcessor
 class EPBooleanPostAnd implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -252,12 +736,13 @@ class EPBooleanPostAnd implements TraitMethodProcessor {
  * If such a method exists in the extended class, it is also executed if the result of the trait method
  * is false (short-circuit evaluation) and both results are combined via OR operation.</p>
  */
+@StatelessProcessor
 class EPBooleanPreOr implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
 
 		var Boolean result = expressionTraitClass.eval() as Boolean
-		if (result == false && expressionExtendedClass !== null)
+		if (expressionExtendedClass !== null && result == false)
 			result = expressionExtendedClass.eval() as Boolean
 		return result
 
@@ -272,6 +757,7 @@ class EPBooleanPreOr implements TraitMethodProcessor {
  * if the result of such a method is false (short-circuit evaluation). Then, both results are combined
  * via OR operation. If such a method does not exist, only the trait method is called.</p>
  */
+@StatelessProcessor
 class EPBooleanPostOr implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -298,6 +784,7 @@ class EPBooleanPostOr implements TraitMethodProcessor {
  * will be processed afterwards and the latter result will be returned if the corresponding
  * functionality exists.</p>
  */
+@StatelessProcessor
 class EPFirstNotNullPre implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -322,6 +809,7 @@ class EPFirstNotNullPre implements TraitMethodProcessor {
  * returned immediately. If the result is <code>null</code>, the functionality of the trait class
  * will be processed afterwards and the latter result will be returned.</p>
  */
+@StatelessProcessor
 class EPFirstNotNullPost implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -349,6 +837,7 @@ class EPFirstNotNullPost implements TraitMethodProcessor {
  * <p>The returned result will be the result from the functionality of the extended class if this functionality
  * exists. Otherwise, the result from the functionality of the trait class will be used.</p>
  */
+@StatelessProcessor
 class EPExtendedResultPre implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -373,6 +862,7 @@ class EPExtendedResultPre implements TraitMethodProcessor {
  * <p>The returned result will be the result from the functionality of the extended class if this functionality
  * exists. Otherwise, the result from the functionality of the trait class will be used.</p>
  */
+@StatelessProcessor
 class EPExtendedResultPost implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -398,6 +888,7 @@ class EPExtendedResultPost implements TraitMethodProcessor {
  * <p>The returned result will be the result from the functionality of the trait class.
  * The result from the functionality of the extended class will be ignored.</p>
  */
+@StatelessProcessor
 class EPTraitClassResultPre implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -420,6 +911,7 @@ class EPTraitClassResultPre implements TraitMethodProcessor {
  * <p>The returned result will be the result from the functionality of the trait class.
  * The result from the functionality of the extended class will be ignored.</p>
  */
+@StatelessProcessor
 class EPTraitClassResultPost implements TraitMethodProcessor {
 
 	override Object call(LazyEvaluation expressionTraitClass, LazyEvaluation expressionExtendedClass) {
@@ -1,13 +1,16 @@
 package org.eclipse.xtend.lib.annotation.etai.utils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -15,11 +18,16 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 import org.eclipse.xtend.lib.annotation.etai.AdderRuleProcessor;
 import org.eclipse.xtend.lib.annotation.etai.CollectionGetterPolicy;
 import org.eclipse.xtend.lib.annotation.etai.RemoverRuleProcessor;
+import org.eclipse.xtend.lib.annotation.etai.SynchronizationLockStrategy;
 import org.eclipse.xtend.lib.annotation.etai.utils.CollectionUtils.StraightIndexList;
 import org.eclipse.xtext.xbase.lib.StringExtensions;
 
@@ -38,31 +46,156 @@ public class GetterSetterUtils {
 	// generated getter/setter/adder/remover calls
 	final static NamedSynchronizationLock NAMED_SYNCHRONIZATION_LOCK = new NamedSynchronizationLock();
 
-	public static void addOppositeReference(Object obj, String fieldName, Object connectedObj) {
+	// this object caches the methods for maintaining opposite references (per class
+	// and field name), so reflection is only used once
+	final static OppositeReferenceMethods OPPOSITE_REFERENCE_METHODS = new OppositeReferenceMethods();
+
+	/**
+	 * <p>
+	 * The methods (as method handles) of a specific class, which are used for
+	 * maintaining the opposite reference of a specific field.
+	 * </p>
+	 */
+	static class OppositeReferenceMethod {
 
-		// check for opposite methods
-		Method addMethod = ReflectUtils.getPrivateMethod(obj.getClass(),
-				"addTo" + StringExtensions.toFirstUpper(fieldName));
-		if (addMethod == null)
-			addMethod = ReflectUtils.getPrivateMethod(obj.getClass(), "set" + StringExtensions.toFirstUpper(fieldName));
+		// signature of stored method handles: (Object, Object)void
+		final static MethodType METHOD_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
 
-		// call opposite method
-		ReflectUtils.callPrivateMethod(obj, addMethod, new Object[] { connectedObj });
+		final String fieldName;
+		final MethodHandle addMethod;
+		final MethodHandle removeMethod;
+		final boolean removeViaSetter;
+
+		OppositeReferenceMethod(Class<?> clazz, String fieldName) {
+
+			this.fieldName = fieldName;
+
+			Method addMethod = ReflectUtils.getPrivateMethod(clazz, "addTo" + StringExtensions.toFirstUpper(fieldName));
+			if (addMethod == null)
+				addMethod = ReflectUtils.getPrivateMethod(clazz, "set" + StringExtensions.toFirstUpper(fieldName));
+
+			Method removeMethod = ReflectUtils.getPrivateMethod(clazz,
+					"removeFrom" + StringExtensions.toFirstUpper(fieldName));
+			this.removeViaSetter = removeMethod == null;
+			if (removeMethod == null)
+				removeMethod = ReflectUtils.getPrivateMethod(clazz, "set" + StringExtensions.toFirstUpper(fieldName));
+
+			this.addMethod = toMethodHandle(addMethod);
+			this.removeMethod = toMethodHandle(removeMethod);
+
+		}
+
+		private static MethodHandle toMethodHandle(Method method) {
+
+			if (method == null)
+				return null;
+
+			try {
+
+				method.setAccessible(true);
+				return MethodHandles.lookup().unreflect(method).asType(METHOD_TYPE);
+
+			} catch (IllegalAccessException e) {
+
+				ReflectUtils.<RuntimeException>sneakyThrow(e);
+
+			}
+
+			return null;
+
+		}
+
+		private void call(MethodHandle methodHandle, Object obj, Object connectedObj) {
+
+			if (methodHandle == null)
+				throw new IllegalStateException(String.format(
+						org.eclipse.xtend.lib.annotation.etai.BidirectionalRuleProcessor.OPPOSITE_METHOD_NOT_FOUND_ERROR,
+						fieldName, obj.getClass().getCanonicalName()));
+
+			try {
+
+				methodHandle.invokeExact(obj, connectedObj);
+
+			} catch (Throwable e) {
+
+				ReflectUtils.<RuntimeException>sneakyThrow(e);
+
+			}
+
+		}
+
+		void add(Object obj, Object connectedObj) {
+
+			call(addMethod, obj, connectedObj);
+
+		}
+
+		void remove(Object obj, Object connectedObj) {
+
+			call(removeMethod, obj, removeViaSetter ? null : connectedObj);
+
+		}
 
 	}
 
-	public static void removeOppositeReference(Object obj, String fieldName, Object connectedObj) {
+	/**
+	 * <p>
+	 * Cache for the methods, which are used for maintaining opposite references.
+	 * The cache is attached to the classes, so they can still be unloaded.
+	 * </p>
+	 */
+	static class OppositeReferenceMethods extends ClassValue<ConcurrentMap<String, OppositeReferenceMethod>> {
 
-		// check for opposite methods
-		Method addMethod = ReflectUtils.getPrivateMethod(obj.getClass(),
-				"removeFrom" + StringExtensions.toFirstUpper(fieldName));
-		if (addMethod == null) {
-			addMethod = ReflectUtils.getPrivateMethod(obj.getClass(), "set" + StringExtensions.toFirstUpper(fieldName));
-			connectedObj = null;
+		@Override
+		protected ConcurrentMap<String, OppositeReferenceMethod> computeValue(Class<?> clazz) {
+			return new ConcurrentHashMap<String, OppositeReferenceMethod>();
 		}
 
+		OppositeReferenceMethod getOppositeReferenceMethod(Class<?> clazz, String fieldName) {
+
+			ConcurrentMap<String, OppositeReferenceMethod> methods = get(clazz);
+
+			OppositeReferenceMethod method = methods.get(fieldName);
+			if (method == null)
+				method = methods.computeIfAbsent(fieldName, name -> new OppositeReferenceMethod(clazz, name));
+
+			return method;
+
+		}
+
+	}
+
+	public static void addOppositeReference(Object obj, String fieldName, Object connectedObj) {
+
+		// call opposite method
+		OPPOSITE_REFERENCE_METHODS.getOppositeReferenceMethod(obj.getClass(), fieldName).add(obj, connectedObj);
+
+	}
+
+	public static void removeOppositeReference(Object obj, String fieldName, Object connectedObj) {
+
 		// call opposite method
-		ReflectUtils.callPrivateMethod(obj, addMethod, new Object[] { connectedObj });
+		OPPOSITE_REFERENCE_METHODS.getOppositeReferenceMethod(obj.getClass(), fieldName).remove(obj, connectedObj);
+
+	}
+
+	/**
+	 * <p>
+	 * Updates the opposite references after the value/reference of a field with
+	 * bidirectional connection has been changed (from old to new value).
+	 * </p>
+	 */
+	public static void changeOppositeReference(Object oldValue, Object newValue, String oppositeFieldName,
+			Object currentObject) {
+
+		if (oppositeFieldName == null || oppositeFieldName.isEmpty())
+			return;
+
+		if (oldValue != null)
+			removeOppositeReference(oldValue, oppositeFieldName, currentObject);
+
+		if (newValue != null)
+			addOppositeReference(newValue, oppositeFieldName, currentObject);
 
 	}
 
@@ -165,153 +298,783 @@ public class GetterSetterUtils {
 	}
 
 	/**
-	 * <p>
-	 * Interface for calling map change method: single element (also replaced one)
-	 * and return type <code>boolean</code>.
-	 * </p>
+	 * <p>
+	 * Interface for calling map change method: single element (also replaced one)
+	 * and return type <code>boolean</code>.
+	 * </p>
+	 */
+	public static interface MethodCallMapNameSingleBooleanWithReplaced<K, V> {
+		boolean call(Map.Entry<K, V> element, Map.Entry<K, V> replacedElement);
+	}
+
+	/**
+	 * <p>
+	 * Interface for calling map change method: multiple elements and return type
+	 * <code>void</code>.
+	 * </p>
+	 */
+	public static interface MethodCallMapNameMultipleVoid<K, V> {
+		void call(Map<K, V> elements);
+	}
+
+	/**
+	 * <p>
+	 * Interface for calling map change method: single element and return type
+	 * <code>void</code>.
+	 * </p>
+	 */
+	public static interface MethodCallMapNameSingleVoid<K, V> {
+		void call(Map.Entry<K, V> element);
+	}
+
+	/**
+	 * <p>
+	 * Interface for calling map change method: single element (also replaced one)
+	 * and return type <code>void</code>.
+	 * </p>
+	 */
+	public static interface MethodCallMapNameSingleVoidWithReplaced<K, V> {
+		void call(Map.Entry<K, V> element, Map.Entry<K, V> replacedElement);
+	}
+
+	/**
+	 * <p>
+	 * Interface for calling bidirectional set/add method.
+	 * </p>
+	 */
+	public static interface MethodCallBidirectional<E, F> {
+		void call(E obj, F value);
+	}
+
+	/**
+	 * <p>
+	 * This class allows the tracking of fields (in context of an object and the
+	 * current thread) which are currently modified. This way, it is possible to
+	 * avoid the concurrent modification of a field (in the same thread).
+	 * </p>
+	 * 
+	 * <p>
+	 * The tracking information is confined to the current thread, i.e., no global
+	 * monitor is needed and the information is released together with the thread.
+	 * </p>
+	 */
+	static class ConcurrentModificationLock {
+
+		/**
+		 * <p>
+		 * Stack of fields (object identity and field name) which are currently locked
+		 * by the owning thread.
+		 * </p>
+		 */
+		static class LockedFieldStack {
+
+			private Object[] objects = new Object[8];
+			private String[] fieldNames = new String[8];
+			private int size = 0;
+
+			private int indexOf(Object obj, String fieldName) {
+
+				for (int i = size - 1; i >= 0; i--)
+					if (objects[i] == obj && fieldNames[i].equals(fieldName))
+						return i;
+
+				return -1;
+
+			}
+
+			private void push(Object obj, String fieldName) {
+
+				if (size == objects.length) {
+					objects = Arrays.copyOf(objects, size * 2);
+					fieldNames = Arrays.copyOf(fieldNames, size * 2);
+				}
+
+				objects[size] = obj;
+				fieldNames[size] = fieldName;
+				size++;
+
+			}
+
+			private void remove(int index) {
+
+				size--;
+				System.arraycopy(objects, index + 1, objects, index, size - index);
+				System.arraycopy(fieldNames, index + 1, fieldNames, index, size - index);
+				objects[size] = null;
+				fieldNames[size] = null;
+
+			}
+
+		}
+
+		private final ThreadLocal<LockedFieldStack> locks = ThreadLocal.withInitial(LockedFieldStack::new);
+
+		/**
+		 * <p>
+		 * After calling this method, given field of the given object will not be
+		 * changed by calling generated setter/adder/remover methods any more until the
+		 * unlock method has been called. If such generated methods are called, they
+		 * will return <code>false</code>.
+		 * </p>
+		 * 
+		 * <p>
+		 * The method can be called multiple times, i.e., also the unlock field must be
+		 * called the same amount of times in order to unlock.
+		 * </p>
+		 * 
+		 * @see #unlockField
+		 */
+		public void lockField(Object obj, String fieldName) {
+
+			locks.get().push(obj, fieldName);
+
+		}
+
+		/**
+		 * <p>
+		 * After calling this method, given field of the given object can be changed
+		 * again (if called as often as the lock method).
+		 * </p>
+		 * 
+		 * @see #lockField
+		 */
+		public void unlockField(Object obj, String fieldName) {
+
+			LockedFieldStack lockedFieldStack = locks.get();
+			lockedFieldStack.remove(lockedFieldStack.indexOf(obj, fieldName));
+
+		}
+
+		/**
+		 * <p>
+		 * Returns if the given field of the given object is currently locked.
+		 * </p>
+		 */
+		public boolean isFieldLocked(Object obj, String fieldName) {
+
+			return locks.get().indexOf(obj, fieldName) >= 0;
+
+		}
+
+	}
+
+	/**
+	 * <p>
+	 * This class represents a lock, which can be used for synchronizing
+	 * getter/setter/adder/remover operations.
+	 * </p>
+	 * 
+	 * <p>
+	 * Internally, a reentrant read/write lock is used. Depending on the strategy,
+	 * read operations can also be performed optimistically. For this, an
+	 * additional stamped lock is acquired (for writing) while the outermost write
+	 * lock is held, so optimistic reads can be validated.
+	 * </p>
+	 * 
+	 * @see SynchronizationLockStrategy
+	 */
+	public static class SynchronizationLock {
+
+		private final SynchronizationLockStrategy strategy;
+		private final ReentrantReadWriteLock lock;
+		private final StampedLock stampedLock;
+		private long writeStamp = 0;
+
+		protected SynchronizationLock(SynchronizationLockStrategy strategy) {
+
+			this.strategy = strategy;
+			this.lock = new ReentrantReadWriteLock(strategy == SynchronizationLockStrategy.FAIR);
+			this.stampedLock = strategy == SynchronizationLockStrategy.OPTIMISTIC_READ ? new StampedLock() : null;
+
+		}
+
+		/**
+		 * <p>
+		 * Returns the strategy of this lock.
+		 * </p>
+		 */
+		public SynchronizationLockStrategy getStrategy() {
+
+			return strategy;
+
+		}
+
+		/**
+		 * <p>
+		 * Returns a stamp for an optimistic read operation or <code>0</code> if an
+		 * optimistic read is not possible (e.g., not supported by strategy or write
+		 * operation in progress).
+		 * </p>
+		 * 
+		 * @see #validate
+		 */
+		public long tryOptimisticRead() {
+
+			if (stampedLock == null)
+				return 0;
+
+			return stampedLock.tryOptimisticRead();
+
+		}
+
+		/**
+		 * <p>
+		 * Returns if there has not been any write operation since the given stamp has
+		 * been issued.
+		 * </p>
+		 * 
+		 * @see #tryOptimisticRead
+		 */
+		public boolean validate(long stamp) {
+
+			return stamp != 0 && stampedLock.validate(stamp);
+
+		}
+
+		/**
+		 * <p>
+		 * Locks until unlocked (write).
+		 * </p>
+		 * 
+		 * @see #writeUnlock
+		 */
+		public void writeLock() {
+
+			lock.writeLock().lock();
+
+			if (stampedLock != null && lock.getWriteHoldCount() == 1)
+				writeStamp = stampedLock.writeLock();
+
+		}
+
+		/**
+		 * <p>
+		 * Unlocks (write).
+		 * </p>
+		 * 
+		 * @see #writeLock
+		 */
+		public void writeUnlock() {
+
+			if (stampedLock != null && lock.getWriteHoldCount() == 1)
+				stampedLock.unlockWrite(writeStamp);
+
+			lock.writeLock().unlock();
+
+		}
+
+		/**
+		 * <p>
+		 * Locks until unlocked (read).
+		 * </p>
+		 * 
+		 * @see #readUnlock
+		 */
+		public void readLock() {
+
+			lock.readLock().lock();
+
+		}
+
+		/**
+		 * <p>
+		 * Unlocks (read).
+		 * </p>
+		 * 
+		 * @see #readLock
+		 */
+		public void readUnlock() {
+
+			lock.readLock().unlock();
+
+		}
+
+	}
+
+	/**
+	 * <p>
+	 * This class holds the (read-only) snapshot of a collection/map, which is
+	 * returned by a getter with policy {@link CollectionGetterPolicy#SNAPSHOT}.
+	 * </p>
+	 * 
+	 * <p>
+	 * The snapshot is valid as long as the collection/map has not been replaced
+	 * and {@link #invalidate} has not been called (which is done by generated
+	 * adders/removers after changing the collection/map).
+	 * </p>
+	 */
+	public static class CollectionSnapshot {
+
+		private static class Entry {
+
+			final int version;
+			final Object source;
+			final Object snapshot;
+
+			Entry(int version, Object source, Object snapshot) {
+
+				this.version = version;
+				this.source = source;
+				this.snapshot = snapshot;
+
+			}
+
+		}
+
+		private final AtomicInteger version = new AtomicInteger();
+		private volatile Entry entry = null;
+
+		/**
+		 * <p>
+		 * Returns the current version, which must be retrieved before creating a
+		 * new snapshot.
+		 * </p>
+		 * 
+		 * @see #put
+		 */
+		public int getVersion() {
+
+			return version.get();
+
+		}
+
+		/**
+		 * <p>
+		 * Returns the snapshot for the given collection/map or <code>null</code> if
+		 * there is no valid snapshot.
+		 * </p>
+		 */
+		@SuppressWarnings("unchecked")
+		public <E> E get(E source) {
+
+			Entry currentEntry = entry;
+			if (currentEntry != null && currentEntry.source == source && currentEntry.version == version.get())
+				return (E) currentEntry.snapshot;
+
+			return null;
+
+		}
+
+		/**
+		 * <p>
+		 * Stores the snapshot of the given collection/map, which has been created
+		 * based on the given version.
+		 * </p>
+		 * 
+		 * @see #getVersion
+		 */
+		public void put(Object source, Object snapshot, int version) {
+
+			entry = new Entry(version, source, snapshot);
+
+		}
+
+		/**
+		 * <p>
+		 * Invalidates the current snapshot.
+		 * </p>
+		 */
+		public void invalidate() {
+
+			version.incrementAndGet();
+
+		}
+
+	}
+
+	/**
+	 * <p>
+	 * This class allows to lock the getter/setter/adder/remover operations based on
+	 * a given name.
+	 * </p>
+	 * 
+	 * <p>
+	 * The lock for a name is usually resolved only once (e.g., during
+	 * initialization of a class with generated methods). Afterwards, the resolved
+	 * lock is used directly.
+	 * </p>
+	 */
+	static class NamedSynchronizationLock {
+
+		private ConcurrentMap<String, SynchronizationLock> locks = new ConcurrentHashMap<String, SynchronizationLock>();
+
+		/**
+		 * <p>
+		 * Retrieves the lock with the given name. If the lock does not exist, yet, it
+		 * is created with the given strategy.
+		 * </p>
+		 * 
+		 * @throws IllegalStateException
+		 *             if the lock already exists with another strategy
+		 */
+		protected SynchronizationLock getLock(String lockName, SynchronizationLockStrategy strategy) {
+
+			SynchronizationLock lock = locks.get(lockName);
+
+			if (lock == null)
+				lock = locks.computeIfAbsent(lockName, name -> new SynchronizationLock(strategy));
+
+			if (lock.getStrategy() != strategy)
+				throw new IllegalStateException(String.format(
+						org.eclipse.xtend.lib.annotation.etai.SynchronizationRuleProcessor.LOCK_STRATEGY_MISMATCH_ERROR,
+						lockName));
+
+			return lock;
+
+		}
+
+		/**
+		 * <p>
+		 * Locks the given lock until unlocked (write).
+		 * </p>
+		 * 
+		 * @see #writeUnlockField
+		 */
+		public void writeLockField(SynchronizationLock lock) {
+
+			if (lock == null)
+				return;
+
+			lock.writeLock();
+
+		}
+
+		/**
+		 * <p>
+		 * Locks the given lock until unlocked (read).
+		 * </p>
+		 * 
+		 * @see #readUnlockField
+		 */
+		public void readLockField(SynchronizationLock lock) {
+
+			if (lock == null)
+				return;
+
+			lock.readLock();
+
+		}
+
+		/**
+		 * <p>
+		 * Unlocks the given lock (write).
+		 * </p>
+		 * 
+		 * @see #writeLockField
+		 */
+		public void writeUnlockField(SynchronizationLock lock) {
+
+			if (lock == null)
+				return;
+
+			lock.writeUnlock();
+
+		}
+
+		/**
+		 * <p>
+		 * Unlocks the given lock (read).
+		 * </p>
+		 * 
+		 * @see #readLockField
+		 */
+		public void readUnlockField(SynchronizationLock lock) {
+
+			if (lock == null)
+				return;
+
+			lock.readUnlock();
+
+		}
+
+	}
+
+	/**
+	 * <p>
+	 * Retrieves the synchronization lock with the given name (global namespace).
+	 * </p>
+	 * 
+	 * <p>
+	 * The returned lock can be passed to the methods of this class, which are used
+	 * for implementing getters/setters/adders/removers. All retrievals of the same
+	 * lock must specify the same strategy.
+	 * </p>
+	 */
+	public static SynchronizationLock getSynchronizationLock(String lockName, SynchronizationLockStrategy strategy) {
+
+		return NAMED_SYNCHRONIZATION_LOCK.getLock(lockName, strategy);
+
+	}
+
+	/**
+	 * <p>
+	 * Retrieves the synchronization lock with the given name as it has been
+	 * retrieved by the methods taking a lock name (fair strategy, which is the
+	 * default strategy of {@link org.eclipse.xtend.lib.annotation.etai.SynchronizationRule}).
+	 * Returns <code>null</code> if no name is given.
+	 * </p>
+	 */
+	private static SynchronizationLock getSynchronizationLock(String lockName) {
+
+		if (lockName == null)
+			return null;
+
+		return getSynchronizationLock(lockName, SynchronizationLockStrategy.FAIR);
+
+	}
+
+	/**
+	 * @deprecated Use the variant passing a {@link SynchronizationLock} (see
+	 *             {@link #getSynchronizationLock(String, SynchronizationLockStrategy)}).
+	 */
+	@Deprecated
+	public static <E> E getValue(E value, CollectionGetterPolicy collectionGetterPolicy, String fieldName,
+			boolean notNullSelf, boolean notNullKeyOrElement, boolean notNullValue, String synchronizationLock) {
+
+		return getValue(value, collectionGetterPolicy, fieldName, notNullSelf, notNullKeyOrElement, notNullValue,
+				getSynchronizationLock(synchronizationLock), null);
+
+	}
+
+	/**
+	 * @deprecated Use the variant passing a {@link SynchronizationLock} (see
+	 *             {@link #getSynchronizationLock(String, SynchronizationLockStrategy)}).
+	 */
+	@Deprecated
+	public static <E> boolean setValue(E oldValue, E newValue, MethodCallBoolean compareValues, MethodCallVoid doSet,
+			MethodCallValueChangeBoolean<E> beforeChange, MethodCallValueChangeVoid<E> afterChange, String fieldName,
+			Object currentObject, boolean notNullSelf, String oppositeFieldName, String synchronizationLock) {
+
+		return setValue(oldValue, newValue, compareValues, doSet, beforeChange, afterChange, fieldName, currentObject,
+				notNullSelf, oppositeFieldName, getSynchronizationLock(synchronizationLock));
+
+	}
+
+	/**
+	 * @deprecated Use the variant passing a {@link SynchronizationLock} (see
+	 *             {@link #getSynchronizationLock(String, SynchronizationLockStrategy)}).
+	 */
+	@Deprecated
+	public static <E> boolean addToList(List<? extends E> list, Collection<? extends E> elements,
+			MethodCallCollectionNameSingleIndexBoolean<E> beforeElementAdd,
+			MethodCallCollectionNameMultipleIndexBoolean<E> beforeAdd,
+			MethodCallCollectionNameSingleIndexVoid<E> afterElementAdd,
+			MethodCallCollectionNameMultipleIndexVoid<E> afterAdd, String fieldName, Object currentObject,
+			boolean notNullElement, String oppositeFieldName, String synchronizationLock) {
+
+		return addToList(list, elements, beforeElementAdd, beforeAdd, afterElementAdd, afterAdd, fieldName,
+				currentObject, notNullElement, oppositeFieldName, getSynchronizationLock(synchronizationLock));
+
+	}
+
+	/**
+	 * @deprecated Use the variant passing a {@link SynchronizationLock} (see
+	 *             {@link #getSynchronizationLock(String, SynchronizationLockStrategy)}).
+	 */
+	@Deprecated
+	public static <E> boolean addToCollection(Collection<? extends E> collection, Collection<? extends E> elements,
+			int startIndex, MethodCallCollectionNameSingleIndexBoolean<E> beforeElementAdd,
+			MethodCallCollectionNameMultipleIndexBoolean<E> beforeAdd,
+			MethodCallCollectionNameSingleIndexVoid<E> afterElementAdd,
+			MethodCallCollectionNameMultipleIndexVoid<E> afterAdd, String fieldName, Object currentObject,
+			boolean notNullElement, String oppositeFieldName, String synchronizationLock) {
+
+		return addToCollection(collection, elements, startIndex, beforeElementAdd, beforeAdd, afterElementAdd,
+				afterAdd, fieldName, currentObject, notNullElement, oppositeFieldName,
+				getSynchronizationLock(synchronizationLock));
+
+	}
+
+	/**
+	 * @deprecated Use the variant passing a {@link SynchronizationLock} (see
+	 *             {@link #getSynchronizationLock(String, SynchronizationLockStrategy)}).
+	 */
+	@Deprecated
+	public static <E> boolean removeFromCollection(Collection<? extends E> collection, Collection<? extends E> elements,
+			Integer index, boolean removeDuplicates, MethodCallCollectionNameSingleIndexBoolean<E> beforeElementRemove,
+			MethodCallCollectionNameMultipleIndexBoolean<E> beforeRemove,
+			MethodCallCollectionNameSingleIndexVoid<E> afterElementRemove,
+			MethodCallCollectionNameMultipleIndexVoid<E> afterRemove, String fieldName, Object currentObject,
+			String oppositeFieldName, String synchronizationLock) {
+
+		return removeFromCollection(collection, elements, index, removeDuplicates, beforeElementRemove, beforeRemove,
+				afterElementRemove, afterRemove, fieldName, currentObject, oppositeFieldName,
+				getSynchronizationLock(synchronizationLock));
+
+	}
+
+	/**
+	 * @deprecated Use the variant passing a {@link SynchronizationLock} (see
+	 *             {@link #getSynchronizationLock(String, SynchronizationLockStrategy)}).
+	 */
+	@Deprecated
+	public static <K, V> V putToMap(Map<? extends K, ? extends V> map, Map<? extends K, ? extends V> elements,
+			MethodCallMapNameSingleBooleanWithReplaced<K, V> beforeElementAdd,
+			MethodCallMapNameMultipleBoolean<K, V> beforeAdd,
+			MethodCallMapNameSingleVoidWithReplaced<K, V> afterElementAdd, MethodCallMapNameMultipleVoid<K, V> afterAdd,
+			String fieldName, Object currentObject, List<Boolean> changeResult, boolean notNullKey,
+			boolean notNullValue, String synchronizationLock) {
+
+		return putToMap(map, elements, beforeElementAdd, beforeAdd, afterElementAdd, afterAdd, fieldName,
+				currentObject, changeResult, notNullKey, notNullValue, getSynchronizationLock(synchronizationLock));
+
+	}
+
+	/**
+	 * @deprecated Use the variant passing a {@link SynchronizationLock} (see
+	 *             {@link #getSynchronizationLock(String, SynchronizationLockStrategy)}).
 	 */
-	public static interface MethodCallMapNameSingleBooleanWithReplaced<K, V> {
-		boolean call(Map.Entry<K, V> element, Map.Entry<K, V> replacedElement);
+	@Deprecated
+	public static <K, V> boolean putAllToMap(Map<? extends K, ? extends V> map, Map<? extends K, ? extends V> elements,
+			MethodCallMapNameSingleBooleanWithReplaced<K, V> beforeElementAdd,
+			MethodCallMapNameMultipleBoolean<K, V> beforeAdd,
+			MethodCallMapNameSingleVoidWithReplaced<K, V> afterElementAdd, MethodCallMapNameMultipleVoid<K, V> afterAdd,
+			String fieldName, Object currentObject, boolean notNullKey, boolean notNullValue,
+			String synchronizationLock) {
+
+		return putAllToMap(map, elements, beforeElementAdd, beforeAdd, afterElementAdd, afterAdd, fieldName,
+				currentObject, notNullKey, notNullValue, getSynchronizationLock(synchronizationLock));
+
 	}
 
 	/**
-	 * <p>
-	 * Interface for calling map change method: multiple elements and return type
-	 * <code>void</code>.
-	 * </p>
+	 * @deprecated Use the variant passing a {@link SynchronizationLock} (see
+	 *             {@link #getSynchronizationLock(String, SynchronizationLockStrategy)}).
 	 */
-	public static interface MethodCallMapNameMultipleVoid<K, V> {
-		void call(Map<K, V> elements);
+	@Deprecated
+	public static <K, V> V removeFromMap(Map<? extends K, ? extends V> map, Set<? extends K> keys,
+			MethodCallMapNameSingleBoolean<K, V> beforeElementRemove,
+			MethodCallMapNameMultipleBoolean<K, V> beforeRemove, MethodCallMapNameSingleVoid<K, V> afterElementRemove,
+			MethodCallMapNameMultipleVoid<K, V> afterRemove, String fieldName, Object currentObject,
+			List<Boolean> changeResult, String synchronizationLock) {
+
+		return removeFromMap(map, keys, beforeElementRemove, beforeRemove, afterElementRemove, afterRemove, fieldName,
+				currentObject, changeResult, getSynchronizationLock(synchronizationLock));
+
 	}
 
 	/**
-	 * <p>
-	 * Interface for calling map change method: single element and return type
-	 * <code>void</code>.
-	 * </p>
+	 * @deprecated Use the variant passing a {@link SynchronizationLock} (see
+	 *             {@link #getSynchronizationLock(String, SynchronizationLockStrategy)}).
 	 */
-	public static interface MethodCallMapNameSingleVoid<K, V> {
-		void call(Map.Entry<K, V> element);
+	@Deprecated
+	public static <E> boolean clearCollection(Collection<? extends E> collection,
+			MethodCallCollectionNameSingleIndexBoolean<E> beforeElementRemove,
+			MethodCallCollectionNameMultipleIndexBoolean<E> beforeRemove,
+			MethodCallCollectionNameSingleIndexVoid<E> afterElementRemove,
+			MethodCallCollectionNameMultipleIndexVoid<E> afterRemove, String fieldName, Object currentObject,
+			String oppositeFieldName, String synchronizationLock) {
+
+		return clearCollection(collection, beforeElementRemove, beforeRemove, afterElementRemove, afterRemove,
+				fieldName, currentObject, oppositeFieldName, getSynchronizationLock(synchronizationLock));
+
 	}
 
 	/**
-	 * <p>
-	 * Interface for calling map change method: single element (also replaced one)
-	 * and return type <code>void</code>.
-	 * </p>
+	 * @deprecated Use the variant passing a {@link SynchronizationLock} (see
+	 *             {@link #getSynchronizationLock(String, SynchronizationLockStrategy)}).
 	 */
-	public static interface MethodCallMapNameSingleVoidWithReplaced<K, V> {
-		void call(Map.Entry<K, V> element, Map.Entry<K, V> replacedElement);
+	@Deprecated
+	public static <K, V> boolean clearMap(Map<? extends K, ? extends V> map,
+			MethodCallMapNameSingleBoolean<K, V> beforeElementRemove,
+			MethodCallMapNameMultipleBoolean<K, V> beforeRemove, MethodCallMapNameSingleVoid<K, V> afterElementRemove,
+			MethodCallMapNameMultipleVoid<K, V> afterRemove, String fieldName, Object currentObject,
+			String synchronizationLock) {
+
+		return clearMap(map, beforeElementRemove, beforeRemove, afterElementRemove, afterRemove, fieldName,
+				currentObject, getSynchronizationLock(synchronizationLock));
+
 	}
 
 	/**
 	 * <p>
-	 * Interface for calling bidirectional set/add method.
+	 * This method can be used for the implementation of getter methods.
+	 * </p>
+	 * 
+	 * <p>
+	 * It will return the value/reference of the given field considering all given
+	 * features (e.g. "not null", collection policy etc.).
 	 * </p>
 	 */
-	public static interface MethodCallBidirectional<E, F> {
-		void call(E obj, F value);
+	public static <E> E getValue(E value, CollectionGetterPolicy collectionGetterPolicy, String fieldName,
+			boolean notNullSelf, boolean notNullKeyOrElement, boolean notNullValue,
+			SynchronizationLock synchronizationLock) {
+
+		return getValue(value, collectionGetterPolicy, fieldName, notNullSelf, notNullKeyOrElement, notNullValue,
+				synchronizationLock, null);
+
 	}
 
 	/**
 	 * <p>
-	 * This class allows the tracking of fields (in context of an object and the
-	 * current thread) which are currently modified. This way, it is possible to
-	 * avoid the concurrent modification of a field (in the same thread).
+	 * This method can be used for the implementation of getter methods.
+	 * </p>
+	 * 
+	 * <p>
+	 * It will return the value/reference of the given field considering all given
+	 * features (e.g. "not null", collection policy etc.). If a collection snapshot
+	 * is given, a still valid snapshot is returned directly. Otherwise, a new
+	 * snapshot is created and stored.
 	 * </p>
+	 * 
+	 * @see CollectionGetterPolicy#SNAPSHOT
 	 */
-	static class ConcurrentModificationLock {
-
-		private Map<Thread, Map<String, Map<Object, Integer>>> locks = new HashMap<Thread, Map<String, Map<Object, Integer>>>();
-
-		/**
-		 * <p>
-		 * After calling this method, given field of the given object will not be
-		 * changed by calling generated setter/adder/remover methods any more until the
-		 * unlock method has been called. If such generated methods are called, they
-		 * will return <code>false</code>.
-		 * </p>
-		 * 
-		 * <p>
-		 * The method can be called multiple times, i.e., also the unlock field must be
-		 * called the same amount of times in order to unlock.
-		 * </p>
-		 * 
-		 * @see #unlockField
-		 */
-		synchronized public void lockField(Object obj, String fieldName) {
+	public static <E> E getValue(E value, CollectionGetterPolicy collectionGetterPolicy, String fieldName,
+			boolean notNullSelf, boolean notNullKeyOrElement, boolean notNullValue,
+			SynchronizationLock synchronizationLock, CollectionSnapshot collectionSnapshot) {
 
-			Thread currentThread = Thread.currentThread();
-			Map<String, Map<Object, Integer>> mapStringObject = locks.get(currentThread);
-			if (mapStringObject == null) {
-				mapStringObject = new HashMap<String, Map<Object, Integer>>();
-				locks.put(currentThread, mapStringObject);
-			}
+		// return snapshot if still valid (version must be retrieved before creating a new snapshot)
+		int snapshotVersion = 0;
+		if (collectionSnapshot != null) {
 
-			Map<Object, Integer> mapObject = mapStringObject.get(fieldName);
-			if (mapObject == null) {
-				mapObject = new IdentityHashMap<Object, Integer>();
-				mapStringObject.put(fieldName, mapObject);
-			}
+			E snapshot = collectionSnapshot.get(value);
+			if (snapshot != null)
+				return snapshot;
 
-			Integer lockCount = mapObject.get(obj);
-			if (lockCount == null)
-				mapObject.put(obj, 1);
-			else
-				mapObject.put(obj, lockCount + 1);
+			snapshotVersion = collectionSnapshot.getVersion();
 
 		}
 
-		/**
-		 * <p>
-		 * After calling this method, given field of the given object can be changed
-		 * again (if called as often as the lock method).
-		 * </p>
-		 * 
-		 * @see #lockField
-		 */
-		synchronized public void unlockField(Object obj, String fieldName) {
-
-			Thread currentThread = Thread.currentThread();
-			Map<String, Map<Object, Integer>> mapStringObject = locks.get(currentThread);
-			Map<Object, Integer> mapObject = mapStringObject.get(fieldName);
-			Integer lockCount = mapObject.get(obj);
-
-			if (lockCount > 1) {
-				mapObject.put(obj, lockCount - 1);
-			} else {
-				mapObject.remove(obj);
-				if (mapObject.size() == 0) {
-					mapStringObject.remove(fieldName);
-					if (mapStringObject.size() == 0) {
-						locks.remove(currentThread);
+		// try to perform this operation optimistically (without lock), which is only done if the collection/map
+		// is not copied (copying while another thread changes it must not happen)
+		if (synchronizationLock != null && collectionGetterPolicy != CollectionGetterPolicy.UNMODIFIABLE_COPY
+				&& collectionGetterPolicy != CollectionGetterPolicy.SNAPSHOT) {
+
+			long stamp = synchronizationLock.tryOptimisticRead();
+			if (stamp != 0) {
+
+				try {
+					E result = getValueUnlocked(value, collectionGetterPolicy, fieldName, notNullSelf,
+							notNullKeyOrElement, notNullValue);
+					if (synchronizationLock.validate(stamp)) {
+						if (collectionSnapshot != null)
+							collectionSnapshot.put(value, result, snapshotVersion);
+						return result;
 					}
+				} catch (RuntimeException | AssertionError exception) {
+					if (synchronizationLock.validate(stamp))
+						throw exception;
 				}
+
 			}
 
 		}
 
-		/**
-		 * <p>
-		 * Returns if the given field of the given object is currently locked.
-		 * </p>
-		 */
-		synchronized public boolean isFieldLocked(Object obj, String fieldName) {
+		// lock this operation
+		NAMED_SYNCHRONIZATION_LOCK.readLockField(synchronizationLock);
 
-			Thread currentThread = Thread.currentThread();
-			Map<String, Map<Object, Integer>> mapStringObject = locks.get(currentThread);
-			if (mapStringObject == null)
-				return false;
+		try {
 
-			Map<Object, Integer> mapObject = mapStringObject.get(fieldName);
-			if (mapObject == null)
-				return false;
+			E result = getValueUnlocked(value, collectionGetterPolicy, fieldName, notNullSelf, notNullKeyOrElement,
+					notNullValue);
+			if (collectionSnapshot != null)
+				collectionSnapshot.put(value, result, snapshotVersion);
+			return result;
 
-			Integer lockCount = mapObject.get(obj);
-			if (lockCount == null || lockCount == 0)
-				return false;
+		} finally {
 
-			return true;
+			// unlock this operation
+			NAMED_SYNCHRONIZATION_LOCK.readUnlockField(synchronizationLock);
 
 		}
 
@@ -319,190 +1082,121 @@ public class GetterSetterUtils {
 
 	/**
 	 * <p>
-	 * This class allows to lock the getter/setter/adder/remover operations based on
-	 * a given name.
+	 * Implementation of {@link #getValue} without considering synchronization.
 	 * </p>
 	 */
-	static class NamedSynchronizationLock {
-
-		private Map<String, ReentrantReadWriteLock> locks = new HashMap<String, ReentrantReadWriteLock>();
-
-		/**
-		 * <p>
-		 * Retrieves the lock with the given name.
-		 * </p>
-		 */
-		synchronized protected ReentrantReadWriteLock getLock(String lockName) {
-
-			ReentrantReadWriteLock lock = locks.get(lockName);
-
-			if (lock == null) {
-				lock = new ReentrantReadWriteLock(true);
-				locks.put(lockName, lock);
-			}
-
-			return lock;
-
-		}
-
-		/**
-		 * <p>
-		 * Locks the given name until unlocked (write).
-		 * </p>
-		 * 
-		 * <p>
-		 * Internally, a fair reentrant read/write lock is used.
-		 * </p>
-		 * 
-		 * @see #writeUnlockField
-		 */
-		public void writeLockField(String lockName) {
-
-			if (lockName == null)
-				return;
-
-			ReentrantReadWriteLock lock = getLock(lockName);
-			lock.writeLock().lock();
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <E> E getValueUnlocked(E value, CollectionGetterPolicy collectionGetterPolicy, String fieldName,
+			boolean notNullSelf, boolean notNullKeyOrElement, boolean notNullValue) {
+
+		// null checks
+		assert !notNullSelf || value != null : String.format(
+				org.eclipse.xtend.lib.annotation.etai.NotNullRuleProcessor.VALUE_NULL_GETTER_ERROR, fieldName);
+
+		assert !notNullKeyOrElement || value == null || (value instanceof Map<?, ?>
+				&& !CollectionUtils.containsKeyNoThrow((Map<?, ?>) value, null)
+				|| (value instanceof Collection<?>
+						&& !CollectionUtils.containsNoThrow((Collection<?>) value, null))) : String.format(
+								org.eclipse.xtend.lib.annotation.etai.NotNullRuleProcessor.VALUE_NULL_GETTER_KEY_ERROR,
+								fieldName);
 
-		}
+		assert !notNullValue || value == null || (value instanceof Map<?, ?>
+				&& !CollectionUtils.containsValueNoThrow((Map<?, ?>) value, null)) : String.format(
+						org.eclipse.xtend.lib.annotation.etai.NotNullRuleProcessor.VALUE_NULL_GETTER_VALUE_ERROR,
+						fieldName);
 
-		/**
-		 * <p>
-		 * Locks the given name until unlocked (read).
-		 * </p>
-		 * 
-		 * <p>
-		 * Internally, a fair reentrant read/write lock is used.
-		 * </p>
-		 * 
-		 * @see #readUnlockField
-		 */
-		public void readLockField(String lockName) {
+		// consider collection policies
 
-			if (lockName == null)
-				return;
+		if (collectionGetterPolicy == CollectionGetterPolicy.UNMODIFIABLE) {
 
-			ReentrantReadWriteLock lock = getLock(lockName);
-			lock.readLock().lock();
+			if (value instanceof SortedMap<?, ?>)
+				return (E) Collections.unmodifiableSortedMap((SortedMap<?, ?>) value);
+			else if (value instanceof Map<?, ?>)
+				return (E) Collections.unmodifiableMap((Map<?, ?>) value);
+			else if (value instanceof SortedSet<?>)
+				return (E) Collections.unmodifiableSortedSet((SortedSet<?>) value);
+			else if (value instanceof Set<?>)
+				return (E) Collections.unmodifiableSet((Set<?>) value);
+			else if (value instanceof List<?>)
+				return (E) Collections.unmodifiableList((List<?>) value);
+			else if (value instanceof Collection<?>)
+				return (E) Collections.unmodifiableCollection((Collection<?>) value);
 
 		}
 
-		/**
-		 * <p>
-		 * Unlocks the given name until unlocked (write).
-		 * </p>
-		 * 
-		 * @see #writeLockField
-		 */
-		public void writeUnlockField(String lockName) {
-
-			if (lockName == null)
-				return;
-
-			ReentrantReadWriteLock lock = getLock(lockName);
-			lock.writeLock().unlock();
+		if (collectionGetterPolicy == CollectionGetterPolicy.UNMODIFIABLE_COPY
+				|| collectionGetterPolicy == CollectionGetterPolicy.SNAPSHOT) {
+
+			if (value instanceof SortedMap<?, ?>)
+				return (E) Collections.unmodifiableSortedMap(new TreeMap((SortedMap<?, ?>) value));
+			else if (value instanceof Map<?, ?>)
+				return (E) Collections.unmodifiableMap(new HashMap((Map<?, ?>) value));
+			else if (value instanceof SortedSet<?>)
+				return (E) Collections.unmodifiableSortedSet(new TreeSet((SortedSet<?>) value));
+			else if (value instanceof Set<?>)
+				return (E) Collections.unmodifiableSet(new HashSet((Set<?>) value));
+			else if (value instanceof List<?>)
+				return (E) Collections.unmodifiableList(new ArrayList((List<?>) value));
+			else if (value instanceof Collection<?>)
+				return (E) Collections.unmodifiableCollection(new ArrayList((Collection<?>) value));
 
 		}
 
-		/**
-		 * <p>
-		 * Unlocks the given name until unlocked (read).
-		 * </p>
-		 * 
-		 * @see #readLockField
-		 */
-		public void readUnlockField(String lockName) {
-
-			if (lockName == null)
-				return;
-
-			ReentrantReadWriteLock lock = getLock(lockName);
-			lock.readLock().unlock();
-
-		}
+		// return the given value
+		return value;
 
 	}
 
 	/**
 	 * <p>
-	 * This method can be used for the implementation of getter methods.
+	 * This method can be used for the implementation of methods, which change the
+	 * given field directly (e.g. generated setter methods).
 	 * </p>
 	 * 
 	 * <p>
-	 * It will return the value/reference of the given field considering all given
-	 * features (e.g. "not null", collection policy etc.).
+	 * It acquires the given synchronization lock (for writing) and blocks further
+	 * changes of the field via generated methods. It will return
+	 * <code>false</code>, if the field is already being changed by the current
+	 * thread. In this case, the change must not be performed. Otherwise, the change
+	 * must be completed by calling {@link #endChange}.
 	 * </p>
+	 * 
+	 * @see #endChange
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public static <E> E getValue(E value, CollectionGetterPolicy collectionGetterPolicy, String fieldName,
-			boolean notNullSelf, boolean notNullKeyOrElement, boolean notNullValue, String synchronizationLock) {
+	public static boolean beginChange(String fieldName, Object currentObject,
+			SynchronizationLock synchronizationLock) {
 
 		// lock this operation
-		NAMED_SYNCHRONIZATION_LOCK.readLockField(synchronizationLock);
-
-		try {
-
-			// null checks
-			assert !notNullSelf || value != null : String.format(
-					org.eclipse.xtend.lib.annotation.etai.NotNullRuleProcessor.VALUE_NULL_GETTER_ERROR, fieldName);
-
-			assert !notNullKeyOrElement || value == null || (value instanceof Map<?, ?>
-					&& !CollectionUtils.containsKeyNoThrow((Map<?, ?>) value, null)
-					|| (value instanceof Collection<?>
-							&& !CollectionUtils.containsNoThrow((Collection<?>) value, null))) : String.format(
-									org.eclipse.xtend.lib.annotation.etai.NotNullRuleProcessor.VALUE_NULL_GETTER_KEY_ERROR,
-									fieldName);
-
-			assert !notNullValue || value == null || (value instanceof Map<?, ?>
-					&& !CollectionUtils.containsValueNoThrow((Map<?, ?>) value, null)) : String.format(
-							org.eclipse.xtend.lib.annotation.etai.NotNullRuleProcessor.VALUE_NULL_GETTER_VALUE_ERROR,
-							fieldName);
-
-			// consider collection policies
-
-			if (collectionGetterPolicy == CollectionGetterPolicy.UNMODIFIABLE) {
-
-				if (value instanceof SortedMap<?, ?>)
-					return (E) Collections.unmodifiableSortedMap((SortedMap<?, ?>) value);
-				else if (value instanceof Map<?, ?>)
-					return (E) Collections.unmodifiableMap((Map<?, ?>) value);
-				else if (value instanceof SortedSet<?>)
-					return (E) Collections.unmodifiableSortedSet((SortedSet<?>) value);
-				else if (value instanceof Set<?>)
-					return (E) Collections.unmodifiableSet((Set<?>) value);
-				else if (value instanceof List<?>)
-					return (E) Collections.unmodifiableList((List<?>) value);
-				else if (value instanceof Collection<?>)
-					return (E) Collections.unmodifiableCollection((Collection<?>) value);
+		NAMED_SYNCHRONIZATION_LOCK.writeLockField(synchronizationLock);
 
-			}
+		// no concurrent modifications
+		if (CONCURRENT_MODIFICATION_LOCK.isFieldLocked(currentObject, fieldName)) {
+			NAMED_SYNCHRONIZATION_LOCK.writeUnlockField(synchronizationLock);
+			return false;
+		}
 
-			if (collectionGetterPolicy == CollectionGetterPolicy.UNMODIFIABLE_COPY) {
-
-				if (value instanceof SortedMap<?, ?>)
-					return (E) Collections.unmodifiableSortedMap(new TreeMap((SortedMap<?, ?>) value));
-				else if (value instanceof Map<?, ?>)
-					return (E) Collections.unmodifiableMap(new HashMap((Map<?, ?>) value));
-				else if (value instanceof SortedSet<?>)
-					return (E) Collections.unmodifiableSortedSet(new TreeSet((SortedSet<?>) value));
-				else if (value instanceof Set<?>)
-					return (E) Collections.unmodifiableSet(new HashSet((Set<?>) value));
-				else if (value instanceof List<?>)
-					return (E) Collections.unmodifiableList(new ArrayList((ArrayList<?>) value));
-				else if (value instanceof Collection<?>)
-					return (E) Collections.unmodifiableCollection(new ArrayList((Collection<?>) value));
+		// start block which avoids concurrent modifications
+		CONCURRENT_MODIFICATION_LOCK.lockField(currentObject, fieldName);
 
-			}
+		return true;
 
-			// return the given value
-			return value;
+	}
 
-		} finally {
+	/**
+	 * <p>
+	 * This method completes a change, which has been started successfully by
+	 * {@link #beginChange}.
+	 * </p>
+	 * 
+	 * @see #beginChange
+	 */
+	public static void endChange(String fieldName, Object currentObject, SynchronizationLock synchronizationLock) {
 
-			// unlock this operation
-			NAMED_SYNCHRONIZATION_LOCK.readUnlockField(synchronizationLock);
+		// stop block which avoids concurrent modifications
+		CONCURRENT_MODIFICATION_LOCK.unlockField(currentObject, fieldName);
 
-		}
+		// unlock this operation
+		NAMED_SYNCHRONIZATION_LOCK.writeUnlockField(synchronizationLock);
 
 	}
 
@@ -516,68 +1210,49 @@ public class GetterSetterUtils {
 	 * features (e.g. "not null", calling methods on changes etc.). It will return,
 	 * if there has been a change.
 	 * </p>
+	 * 
+	 * <p>
+	 * Generated setter methods do not use this method, but perform the change
+	 * directly (see {@link #beginChange}), so no objects for the given method calls
+	 * must be created on each call.
+	 * </p>
 	 */
 	public static <E> boolean setValue(E oldValue, E newValue, MethodCallBoolean compareValues, MethodCallVoid doSet,
 			MethodCallValueChangeBoolean<E> beforeChange, MethodCallValueChangeVoid<E> afterChange, String fieldName,
-			Object currentObject, boolean notNullSelf, String oppositeFieldName, String synchronizationLock) {
+			Object currentObject, boolean notNullSelf, String oppositeFieldName, SynchronizationLock synchronizationLock) {
 
-		// lock this operation
-		NAMED_SYNCHRONIZATION_LOCK.writeLockField(synchronizationLock);
+		if (!beginChange(fieldName, currentObject, synchronizationLock))
+			return false;
 
 		try {
 
-			// no concurrent modifications
-			if (CONCURRENT_MODIFICATION_LOCK.isFieldLocked(currentObject, fieldName))
-				return false;
-
-			// start block which avoids concurrent modifications
-			CONCURRENT_MODIFICATION_LOCK.lockField(currentObject, fieldName);
-
-			try {
+			// null check
+			assert !notNullSelf || newValue != null : String.format(
+					org.eclipse.xtend.lib.annotation.etai.NotNullRuleProcessor.VALUE_NULL_SETTER_ERROR, fieldName);
 
-				// null check
-				assert !notNullSelf || newValue != null : String.format(
-						org.eclipse.xtend.lib.annotation.etai.NotNullRuleProcessor.VALUE_NULL_SETTER_ERROR, fieldName);
+			// do nothing if value/reference would not be changed
+			if (!compareValues.call())
+				return false;
 
-				// do nothing if value/reference would not be changed
-				if (!compareValues.call())
+			// call "before change" method and check if change is valid
+			if (beforeChange != null)
+				if (!beforeChange.call(oldValue, newValue))
 					return false;
 
-				// call "before change" method and check if change is valid
-				if (beforeChange != null)
-					if (!beforeChange.call(oldValue, newValue))
-						return false;
-
-				// perform actual change
-				doSet.call();
-
-				if (oppositeFieldName != null && !oppositeFieldName.isEmpty()) {
-
-					if (oldValue != null)
-						removeOppositeReference(oldValue, oppositeFieldName, currentObject);
-
-					if (newValue != null)
-						addOppositeReference(newValue, oppositeFieldName, currentObject);
-
-				}
-
-				// call "before change" method
-				if (afterChange != null)
-					afterChange.call(oldValue, newValue);
-
-				return true;
+			// perform actual change
+			doSet.call();
 
-			} finally {
+			changeOppositeReference(oldValue, newValue, oppositeFieldName, currentObject);
 
-				// stop block which avoids concurrent modifications
-				CONCURRENT_MODIFICATION_LOCK.unlockField(currentObject, fieldName);
+			// call "before change" method
+			if (afterChange != null)
+				afterChange.call(oldValue, newValue);
 
-			}
+			return true;
 
 		} finally {
 
-			// unlock this operation
-			NAMED_SYNCHRONIZATION_LOCK.writeUnlockField(synchronizationLock);
+			endChange(fieldName, currentObject, synchronizationLock);
 
 		}
 
@@ -596,7 +1271,7 @@ public class GetterSetterUtils {
 			MethodCallCollectionNameMultipleIndexBoolean<E> beforeAdd,
 			MethodCallCollectionNameSingleIndexVoid<E> afterElementAdd,
 			MethodCallCollectionNameMultipleIndexVoid<E> afterAdd, String fieldName, Object currentObject,
-			boolean notNullElement, String oppositeFieldName, String synchronizationLock) {
+			boolean notNullElement, String oppositeFieldName, SynchronizationLock synchronizationLock) {
 
 		// lock this operation
 		NAMED_SYNCHRONIZATION_LOCK.writeLockField(synchronizationLock);
@@ -633,7 +1308,7 @@ public class GetterSetterUtils {
 			MethodCallCollectionNameMultipleIndexBoolean<E> beforeAdd,
 			MethodCallCollectionNameSingleIndexVoid<E> afterElementAdd,
 			MethodCallCollectionNameMultipleIndexVoid<E> afterAdd, String fieldName, Object currentObject,
-			boolean notNullElement, String oppositeFieldName, String synchronizationLock) {
+			boolean notNullElement, String oppositeFieldName, SynchronizationLock synchronizationLock) {
 
 		// lock this operation
 		NAMED_SYNCHRONIZATION_LOCK.writeLockField(synchronizationLock);
@@ -657,8 +1332,12 @@ public class GetterSetterUtils {
 
 				List<E> objsToBeAdded;
 
-				// copy of old elements
-				List<E> oldElements = Collections.unmodifiableList(new ArrayList<E>(collection));
+				// copy of old elements (only if needed by change methods)
+				boolean changeMethodsExist = beforeElementAdd != null || beforeAdd != null || afterElementAdd != null
+						|| afterAdd != null;
+				List<E> oldElements = changeMethodsExist
+						? Collections.unmodifiableList(new ArrayList<E>(collection))
+						: null;
 
 				// special preparation for sets: remove elements from given set which already
 				// exist in destination set
@@ -758,6 +1437,10 @@ public class GetterSetterUtils {
 
 				}
 
+				// return if no change methods must be called
+				if (!changeMethodsExist)
+					return true;
+
 				// copy of new elements
 				List<E> newElements = Collections.unmodifiableList(new ArrayList<E>(collection));
 
@@ -815,7 +1498,7 @@ public class GetterSetterUtils {
 			MethodCallCollectionNameMultipleIndexBoolean<E> beforeRemove,
 			MethodCallCollectionNameSingleIndexVoid<E> afterElementRemove,
 			MethodCallCollectionNameMultipleIndexVoid<E> afterRemove, String fieldName, Object currentObject,
-			String oppositeFieldName, String synchronizationLock) {
+			String oppositeFieldName, SynchronizationLock synchronizationLock) {
 
 		// lock this operation
 		NAMED_SYNCHRONIZATION_LOCK.writeLockField(synchronizationLock);
@@ -837,8 +1520,12 @@ public class GetterSetterUtils {
 				List<Integer> indicesToBeRemoved = null;
 				List<E> objsToBeRemoved;
 
-				// copy of old elements
-				List<E> oldElements = Collections.unmodifiableList(new ArrayList<E>(collection));
+				// copy of old elements (only if needed by change methods)
+				boolean changeMethodsExist = beforeElementRemove != null || beforeRemove != null
+						|| afterElementRemove != null || afterRemove != null;
+				List<E> oldElements = changeMethodsExist
+						? Collections.unmodifiableList(new ArrayList<E>(collection))
+						: null;
 
 				// reduce elements to elements which are really in the collection
 				if (elements != null) {
@@ -983,6 +1670,10 @@ public class GetterSetterUtils {
 
 				}
 
+				// return if no change methods must be called
+				if (!changeMethodsExist)
+					return true;
+
 				// copy of new elements
 				List<E> newElements = Collections.unmodifiableList(new ArrayList<E>(collection));
 
@@ -1040,7 +1731,7 @@ public class GetterSetterUtils {
 			MethodCallMapNameMultipleBoolean<K, V> beforeAdd,
 			MethodCallMapNameSingleVoidWithReplaced<K, V> afterElementAdd, MethodCallMapNameMultipleVoid<K, V> afterAdd,
 			String fieldName, Object currentObject, List<Boolean> changeResult, boolean notNullKey,
-			boolean notNullValue, String synchronizationLock) {
+			boolean notNullValue, SynchronizationLock synchronizationLock) {
 
 		// track, if there has been a change
 		if (changeResult != null && changeResult.size() == 1)
@@ -1189,7 +1880,7 @@ public class GetterSetterUtils {
 			MethodCallMapNameMultipleBoolean<K, V> beforeAdd,
 			MethodCallMapNameSingleVoidWithReplaced<K, V> afterElementAdd, MethodCallMapNameMultipleVoid<K, V> afterAdd,
 			String fieldName, Object currentObject, boolean notNullKey, boolean notNullValue,
-			String synchronizationLock) {
+			SynchronizationLock synchronizationLock) {
 
 		List<Boolean> changeResult = new ArrayList<Boolean>();
 		changeResult.add(false);
@@ -1215,7 +1906,7 @@ public class GetterSetterUtils {
 			MethodCallMapNameSingleBoolean<K, V> beforeElementRemove,
 			MethodCallMapNameMultipleBoolean<K, V> beforeRemove, MethodCallMapNameSingleVoid<K, V> afterElementRemove,
 			MethodCallMapNameMultipleVoid<K, V> afterRemove, String fieldName, Object currentObject,
-			List<Boolean> changeResult, String synchronizationLock) {
+			List<Boolean> changeResult, SynchronizationLock synchronizationLock) {
 
 		// track, if there has been a change
 		if (changeResult != null && changeResult.size() == 1)
@@ -1326,7 +2017,7 @@ public class GetterSetterUtils {
 			MethodCallCollectionNameMultipleIndexBoolean<E> beforeRemove,
 			MethodCallCollectionNameSingleIndexVoid<E> afterElementRemove,
 			MethodCallCollectionNameMultipleIndexVoid<E> afterRemove, String fieldName, Object currentObject,
-			String oppositeFieldName, String synchronizationLock) {
+			String oppositeFieldName, SynchronizationLock synchronizationLock) {
 
 		// lock this operation
 		NAMED_SYNCHRONIZATION_LOCK.writeLockField(synchronizationLock);
@@ -1365,7 +2056,7 @@ public class GetterSetterUtils {
 			MethodCallMapNameSingleBoolean<K, V> beforeElementRemove,
 			MethodCallMapNameMultipleBoolean<K, V> beforeRemove, MethodCallMapNameSingleVoid<K, V> afterElementRemove,
 			MethodCallMapNameMultipleVoid<K, V> afterRemove, String fieldName, Object currentObject,
-			String synchronizationLock) {
+			SynchronizationLock synchronizationLock) {
 
 		// lock this operation
 		NAMED_SYNCHRONIZATION_LOCK.writeLockField(synchronizationLock);
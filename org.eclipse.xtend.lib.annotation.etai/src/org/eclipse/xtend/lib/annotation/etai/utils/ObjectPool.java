@@ -0,0 +1,90 @@
+package org.eclipse.xtend.lib.annotation.etai.utils;
+
+import java.util.ArrayDeque;
+
+/**
+ * <p>
+ * Bounded pool of objects that can be recycled.
+ * </p>
+ *
+ * <p>
+ * The pool is confined to the current thread, i.e., each thread uses its own
+ * pool (of the given capacity), so no synchronization is required. An object
+ * released on another thread than the one it has been acquired on is put into
+ * the pool of the releasing thread, i.e., it will not be handed out to the
+ * acquiring thread again.
+ * </p>
+ */
+public class ObjectPool<T> {
+
+	private final int capacity;
+
+	private final ThreadLocal<ArrayDeque<T>> pool = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * <p>
+	 * Creates a pool which holds up to the given number of objects per thread.
+	 * </p>
+	 */
+	public ObjectPool(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * <p>
+	 * Returns an object from the pool of the current thread (or
+	 * <code>null</code> if the pool is empty).
+	 * </p>
+	 */
+	public T acquire() {
+		return pool.get().pollLast();
+	}
+
+	/**
+	 * <p>
+	 * Puts the given object into the pool of the current thread. If the pool
+	 * is full or the object is already in the pool of the current thread, the
+	 * object is not put into the pool and <code>false</code> is returned.
+	 * </p>
+	 */
+	public boolean release(T obj) {
+
+		ArrayDeque<T> currentPool = pool.get();
+		if (currentPool.size() >= capacity || contains(currentPool, obj))
+			return false;
+
+		currentPool.addLast(obj);
+		return true;
+
+	}
+
+	/**
+	 * <p>
+	 * Checks if the given object is in the pool of the current thread (by
+	 * identity).
+	 * </p>
+	 */
+	public boolean contains(T obj) {
+		return contains(pool.get(), obj);
+	}
+
+	private static <T> boolean contains(ArrayDeque<T> currentPool, T obj) {
+
+		// the pool is bounded, so a linear search is cheap
+		for (T pooledObj : currentPool)
+			if (pooledObj == obj)
+				return true;
+		return false;
+
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of objects in the pool of the current thread.
+	 * </p>
+	 */
+	public int size() {
+		return pool.get().size();
+	}
+
+}
@@ -1,14 +1,217 @@
 package org.eclipse.xtend.lib.annotation.etai.utils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.xtend.lib.annotation.etai.ConstantDefaultValueProvider;
 import org.eclipse.xtend.lib.annotation.etai.DefaultValueProvider;
 import org.eclipse.xtend.lib.annotation.etai.utils.ProcessUtils.TypeMatchingStrategy;
 
 public class ReflectUtils {
 
+	// marker for cached lookups, which did not find a method/field
+	private final static Object NOT_FOUND = new Object();
+
+	/**
+	 * <p>Key for a cached method/field lookup within a specific class.</p>
+	 */
+	private static class LookupKey {
+
+		private final String name;
+		private final Class<?>[] parameterTypes;
+		private final TypeMatchingStrategy typeMatchingStrategy;
+		private final boolean field;
+		private final int hashCode;
+
+		private LookupKey(String name, Class<?>[] parameterTypes, TypeMatchingStrategy typeMatchingStrategy,
+				boolean field) {
+
+			this.name = name;
+			this.parameterTypes = parameterTypes;
+			this.typeMatchingStrategy = typeMatchingStrategy;
+			this.field = field;
+			this.hashCode = Objects.hash(name, Arrays.hashCode(parameterTypes), typeMatchingStrategy, field);
+
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (!(obj instanceof LookupKey))
+				return false;
+
+			LookupKey other = (LookupKey) obj;
+			return field == other.field && typeMatchingStrategy == other.typeMatchingStrategy
+					&& name.equals(other.name) && Arrays.equals(parameterTypes, other.parameterTypes);
+
+		}
+
+	}
+
+	/**
+	 * <p>
+	 * Cache for method/field lookups. The cache is attached to the classes, so they
+	 * can still be unloaded.
+	 * </p>
+	 */
+	private static class LookupCache extends ClassValue<ConcurrentMap<LookupKey, Object>> {
+
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+
+		// the caches of all classes (weak, so the caches of unloaded classes are not kept),
+		// references to caches of unloaded classes are removed as soon as they are enqueued
+		private final Set<Reference<? extends ConcurrentMap<LookupKey, Object>>> caches = ConcurrentHashMap.newKeySet();
+		private final ReferenceQueue<ConcurrentMap<LookupKey, Object>> clearedCaches = new ReferenceQueue<ConcurrentMap<LookupKey, Object>>();
+
+		@Override
+		protected ConcurrentMap<LookupKey, Object> computeValue(Class<?> clazz) {
+
+			ConcurrentMap<LookupKey, Object> cache = new ConcurrentHashMap<LookupKey, Object>();
+
+			removeClearedCaches();
+			caches.add(new WeakReference<ConcurrentMap<LookupKey, Object>>(cache, clearedCaches));
+
+			return cache;
+
+		}
+
+		private void removeClearedCaches() {
+
+			Reference<? extends ConcurrentMap<LookupKey, Object>> reference;
+			while ((reference = clearedCaches.poll()) != null)
+				caches.remove(reference);
+
+		}
+
+		private int size() {
+
+			int size = 0;
+
+			removeClearedCaches();
+			for (Reference<? extends ConcurrentMap<LookupKey, Object>> reference : caches) {
+
+				ConcurrentMap<LookupKey, Object> cache = reference.get();
+				if (cache != null)
+					size += cache.size();
+
+			}
+
+			return size;
+
+		}
+
+	}
+
+	private final static LookupCache LOOKUP_CACHE = new LookupCache();
+
+	/**
+	 * <p>
+	 * Cache for default value providers. There is only one (shared) object per
+	 * default value provider class. If the default value provider is constant,
+	 * the cached object just returns the value, which has been retrieved once.
+	 * </p>
+	 * 
+	 * @see DefaultValueProvider
+	 * @see ConstantDefaultValueProvider
+	 */
+	private static class DefaultValueProviderCache extends ClassValue<DefaultValueProvider<?>> {
+
+		@Override
+		protected DefaultValueProvider<?> computeValue(Class<?> clazz) {
+
+			try {
+
+				DefaultValueProvider<?> defaultValueProvider = (DefaultValueProvider<?>) clazz.getConstructor()
+						.newInstance();
+
+				if (defaultValueProvider instanceof ConstantDefaultValueProvider<?>) {
+
+					final Object defaultValue = defaultValueProvider.getDefaultValue();
+					return () -> defaultValue;
+
+				}
+
+				return defaultValueProvider;
+
+			} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+					| InvocationTargetException | NoSuchMethodException | SecurityException e) {
+
+				ReflectUtils.<RuntimeException>sneakyThrow(e);
+
+			}
+
+			return null;
+
+		}
+
+	}
+
+	private final static DefaultValueProviderCache DEFAULT_VALUE_PROVIDER_CACHE = new DefaultValueProviderCache();
+
+	/**
+	 * <p>
+	 * This class resolves a (non-public) method of an extended class once per
+	 * (extended) class and provides it as method handle, or <code>null</code> if
+	 * there is no such method. Generated code of trait classes uses objects of this
+	 * class in order to call methods of the extended class.
+	 * </p>
+	 * 
+	 * @see #callMethodInExtendedClass
+	 */
+	public static class ExtendedClassMethod extends ClassValue<MethodHandle> {
+
+		private final String methodName;
+		private final Class<?>[] parameterTypes;
+
+		public ExtendedClassMethod(String methodName, Class<?>[] parameterTypes) {
+
+			this.methodName = methodName;
+			this.parameterTypes = parameterTypes;
+
+		}
+
+		@Override
+		protected MethodHandle computeValue(Class<?> clazz) {
+
+			Method method = getPrivateMethodInheritanceMatch(clazz, methodName, parameterTypes);
+			if (method == null)
+				return null;
+
+			try {
+
+				method.setAccessible(true);
+				return MethodHandles.lookup().unreflect(method).asFixedArity();
+
+			} catch (IllegalAccessException e) {
+
+				ReflectUtils.<RuntimeException>sneakyThrow(e);
+
+			}
+
+			return null;
+
+		}
+
+	}
+
 	/**
 	 * <p>Method for realizing sneaky throws.</p>
 	 */
@@ -17,6 +220,94 @@ public class ReflectUtils {
 		throw (E) e;
 	}
 
+	/**
+	 * <p>
+	 * Returns the number of method/field lookups, which could be answered by the
+	 * lookup cache.
+	 * </p>
+	 */
+	public static long getLookupCacheHits() {
+		return LOOKUP_CACHE.hits.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of method/field lookups, which could not be answered by
+	 * the lookup cache, i.e., which have been performed via reflection.
+	 * Concurrent misses for the same lookup only lead to one cache entry, so this
+	 * number can be larger than the number of cache entries.
+	 * </p>
+	 * 
+	 * @see #getLookupCacheSize
+	 */
+	public static long getLookupCacheMisses() {
+		return LOOKUP_CACHE.misses.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of entries in the lookup cache (for all classes, which
+	 * have not been unloaded). Lookups which did not find a method/field are
+	 * cached as well.
+	 * </p>
+	 */
+	public static int getLookupCacheSize() {
+		return LOOKUP_CACHE.size();
+	}
+
+	/**
+	 * <p>
+	 * Returns the hit rate (between 0.0 and 1.0) of the lookup cache.
+	 * </p>
+	 */
+	public static double getLookupCacheHitRate() {
+
+		long hits = getLookupCacheHits();
+		long total = hits + getLookupCacheMisses();
+
+		return total == 0 ? 0.0 : (double) hits / total;
+
+	}
+
+	/**
+	 * <p>
+	 * Retrieves the result of a method/field lookup from the cache. If it is not
+	 * cached, yet, <code>null</code> is returned. If it is cached, but nothing has
+	 * been found, <code>NOT_FOUND</code> is returned.
+	 * </p>
+	 */
+	private static Object getCachedLookup(Class<?> clazz, LookupKey key) {
+
+		Object result = LOOKUP_CACHE.get(clazz).get(key);
+
+		if (result == null) {
+			LOOKUP_CACHE.misses.increment();
+			return null;
+		}
+
+		LOOKUP_CACHE.hits.increment();
+		return result;
+
+	}
+
+	/**
+	 * <p>
+	 * Stores the result of a method/field lookup in the cache and returns the
+	 * result (or <code>null</code> if nothing has been found).
+	 * </p>
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T putCachedLookup(Class<?> clazz, LookupKey key, T result) {
+
+		Object cachedResult = LOOKUP_CACHE.get(clazz).putIfAbsent(key, result == null ? NOT_FOUND : result);
+
+		if (cachedResult == null)
+			return result;
+
+		return cachedResult == NOT_FOUND ? null : (T) cachedResult;
+
+	}
+
 	/**
 	 * <p>
 	 * This method retrieves the (private) method of a given class. If the method is
@@ -31,9 +322,29 @@ public class ReflectUtils {
 	 * <p>
 	 * If the method cannot be found, <code>null</code> is returned.
 	 * </p>
+	 * 
+	 * <p>
+	 * The result is cached, i.e., the same method object is returned for
+	 * subsequent calls.
+	 * </p>
 	 */
 	public static Method getPrivateMethod(Class<?> clazz, String methodName) {
 
+		LookupKey key = new LookupKey(methodName, null, null, false);
+
+		Object cachedMethod = getCachedLookup(clazz, key);
+		if (cachedMethod != null)
+			return cachedMethod == NOT_FOUND ? null : (Method) cachedMethod;
+
+		return putCachedLookup(clazz, key, findPrivateMethod(clazz, methodName));
+
+	}
+
+	/**
+	 * <p>Helper method for implementing {@link #getPrivateMethod(Class, String)} (without cache).</p>
+	 */
+	private static Method findPrivateMethod(Class<?> clazz, String methodName) {
+
 		// search through this clazz
 		for (Method method : clazz.getDeclaredMethods())
 			if (method.getName().equals(methodName))
@@ -41,7 +352,7 @@ public class ReflectUtils {
 
 		// recursively go up the hierarchy if not found in this class
 		if (clazz.getSuperclass() != null)
-			return getPrivateMethod(clazz.getSuperclass(), methodName);
+			return findPrivateMethod(clazz.getSuperclass(), methodName);
 
 		return null;
 
@@ -49,11 +360,34 @@ public class ReflectUtils {
 
 	/**
 	 * <p>Helper method for implementing {@link #getPrivateMethodExactMatch} and
-	 * {@link #getPrivateMethodCovariantMatch}.</p>
+	 * {@link #getPrivateMethodCovariantMatch}. The result is cached.</p>
 	 */
 	private static Method getPrivateMethod(Class<?> clazz, String methodName, Class<?>[] parameterTypes,
 			TypeMatchingStrategy typeMatchingStrategy) {
 
+		// parameter types "null" and empty are equivalent
+		if (parameterTypes != null && parameterTypes.length == 0)
+			parameterTypes = null;
+
+		Object cachedMethod = getCachedLookup(clazz,
+				new LookupKey(methodName, parameterTypes, typeMatchingStrategy, false));
+		if (cachedMethod != null)
+			return cachedMethod == NOT_FOUND ? null : (Method) cachedMethod;
+
+		return putCachedLookup(clazz,
+				new LookupKey(methodName, parameterTypes == null ? null : parameterTypes.clone(), typeMatchingStrategy,
+						false),
+				findPrivateMethod(clazz, methodName, parameterTypes, typeMatchingStrategy));
+
+	}
+
+	/**
+	 * <p>Helper method for implementing {@link #getPrivateMethod(Class, String, Class[], TypeMatchingStrategy)}
+	 * (without cache).</p>
+	 */
+	private static Method findPrivateMethod(Class<?> clazz, String methodName, Class<?>[] parameterTypes,
+			TypeMatchingStrategy typeMatchingStrategy) {
+
 		int parameterCount = 0;
 		if (parameterTypes != null)
 			parameterCount = parameterTypes.length;
@@ -102,7 +436,7 @@ public class ReflectUtils {
 
 		// recursively go up the hierarchy if not found in this class
 		if (clazz.getSuperclass() != null)
-			return getPrivateMethod(clazz.getSuperclass(), methodName, parameterTypes, typeMatchingStrategy);
+			return findPrivateMethod(clazz.getSuperclass(), methodName, parameterTypes, typeMatchingStrategy);
 
 		return null;
 
@@ -178,12 +512,20 @@ public class ReflectUtils {
 	 * <p>
 	 * This method calls a method (can be private) with the given arguments.
 	 * </p>
+	 * 
+	 * <p>
+	 * If necessary, the given method object is made accessible. It is not reset
+	 * afterwards, because the method objects (retrieved by this class) are cached
+	 * and might be used by multiple threads concurrently. Resetting the flag
+	 * could make a call in another thread fail. Callers passing method/field
+	 * objects, which must stay inaccessible, have to pass a copy (e.g. via
+	 * {@link Class#getDeclaredMethod}).
+	 * </p>
 	 */
 	public static Object callPrivateMethod(Object obj, Method method, Object[] arguments) {
 
-		boolean previousAccessible = method.canAccess(obj);
-
-		method.setAccessible(true);
+		if (!method.canAccess(obj))
+			method.setAccessible(true);
 
 		try {
 
@@ -197,10 +539,6 @@ public class ReflectUtils {
 
 			ReflectUtils.<RuntimeException>sneakyThrow(e.getTargetException());
 
-		} finally {
-
-			method.setAccessible(previousAccessible);
-
 		}
 
 		return null;
@@ -252,9 +590,29 @@ public class ReflectUtils {
 	 * <p>
 	 * If the field cannot be found, <code>null</code> is returned.
 	 * </p>
+	 * 
+	 * <p>
+	 * The result is cached, i.e., the same field object is returned for
+	 * subsequent calls.
+	 * </p>
 	 */
 	public static Field getPrivateField(Class<?> clazz, String fieldName) {
 
+		LookupKey key = new LookupKey(fieldName, null, null, true);
+
+		Object cachedField = getCachedLookup(clazz, key);
+		if (cachedField != null)
+			return cachedField == NOT_FOUND ? null : (Field) cachedField;
+
+		return putCachedLookup(clazz, key, findPrivateField(clazz, fieldName));
+
+	}
+
+	/**
+	 * <p>Helper method for implementing {@link #getPrivateField} (without cache).</p>
+	 */
+	private static Field findPrivateField(Class<?> clazz, String fieldName) {
+
 		// search through this clazz
 		for (Field field : clazz.getDeclaredFields())
 			if (field.getName().equals(fieldName))
@@ -262,7 +620,7 @@ public class ReflectUtils {
 
 		// recursively go up the hierarchy if not found in this class
 		if (clazz.getSuperclass() != null)
-			return getPrivateField(clazz.getSuperclass(), fieldName);
+			return findPrivateField(clazz.getSuperclass(), fieldName);
 
 		return null;
 
@@ -272,11 +630,16 @@ public class ReflectUtils {
 	 * <p>
 	 * This method retrieves the value of a (private) field of the given object.
 	 * </p>
+	 * 
+	 * <p>
+	 * If necessary, the given field object is made accessible. It is not reset
+	 * afterwards (see {@link #callPrivateMethod(Object, Method, Object[])}).
+	 * </p>
 	 */
 	public static Object getPrivateFieldValue(Object obj, Field field) {
 
-		boolean previousAccessible = field.canAccess(obj);
-		field.setAccessible(true);
+		if (!field.canAccess(obj))
+			field.setAccessible(true);
 
 		try {
 
@@ -286,10 +649,6 @@ public class ReflectUtils {
 
 			ReflectUtils.<RuntimeException>sneakyThrow(e);
 
-		} finally {
-
-			field.setAccessible(previousAccessible);
-
 		}
 
 		return null;
@@ -313,11 +672,16 @@ public class ReflectUtils {
 	 * <p>
 	 * This method sets the value of a (private) field of the given object.
 	 * </p>
+	 * 
+	 * <p>
+	 * If necessary, the given field object is made accessible. It is not reset
+	 * afterwards (see {@link #callPrivateMethod(Object, Method, Object[])}).
+	 * </p>
 	 */
 	public static void setPrivateFieldValue(Object obj, Field field, Object value) {
 
-		boolean previousAccessible = field.canAccess(obj);
-		field.setAccessible(true);
+		if (!field.canAccess(obj))
+			field.setAccessible(true);
 
 		try {
 
@@ -327,10 +691,6 @@ public class ReflectUtils {
 
 			ReflectUtils.<RuntimeException>sneakyThrow(e);
 
-		} finally {
-
-			field.setAccessible(previousAccessible);
-
 		}
 
 	}
@@ -348,6 +708,45 @@ public class ReflectUtils {
 
 	}
 
+	/**
+	 * <p>
+	 * Returns a method handle, which calls the given (non-public) method of the
+	 * given class without virtual dispatch (like a super call), or
+	 * <code>null</code> if there is no such method. The lookup object must have
+	 * private access to the given class.
+	 * </p>
+	 */
+	public static MethodHandle getSpecialMethodHandle(MethodHandles.Lookup lookup, Class<?> clazz, String methodName,
+			Class<?>[] parameterTypes) {
+
+		Method method = getPrivateMethodExactMatch(clazz, methodName, parameterTypes);
+		if (method == null)
+			return null;
+
+		try {
+
+			return lookup.unreflectSpecial(method, clazz).asFixedArity();
+
+		} catch (IllegalAccessException e) {
+
+			ReflectUtils.<RuntimeException>sneakyThrow(e);
+
+		}
+
+		return null;
+
+	}
+
+	/**
+	 * <p>Returns the default value of the given default value provider class. The
+	 * provider is only instantiated once per class.</p>
+	 * 
+	 * @see DefaultValueProvider
+	 */
+	public static Object getDefaultValue(Class<? extends DefaultValueProvider<?>> defaultValueProvider) {
+		return DEFAULT_VALUE_PROVIDER_CACHE.get(defaultValueProvider).getDefaultValue();
+	}
+
 	/**
 	 * <p>Helper method for calling a (non-public) method in the extended class.</p>
 	 */
@@ -371,17 +770,7 @@ public class ReflectUtils {
 						methodName, obj.getClass()));
 			}
 
-			try {
-
-				return defaultValueProvider.getConstructor().newInstance().getDefaultValue();
-
-			} catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException e) {
-
-				ReflectUtils.<RuntimeException>sneakyThrow(e);
-
-			}
-
-			return null;
+			return getDefaultValue(defaultValueProvider);
 
 		}
 